@@ -0,0 +1,261 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH): created
+ */
+package org.knime.cloud.core.file;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.knime.base.filehandling.remote.files.ConnectionMonitor;
+import org.knime.cloud.core.file.memory.InMemoryConnection;
+import org.knime.cloud.core.file.memory.InMemoryObjectStore;
+import org.knime.cloud.core.file.memory.InMemoryRemoteFile;
+import org.knime.cloud.core.util.port.CloudConnectionInformation;
+
+/**
+ * Tests the remote calls issued by {@link CloudRemoteFile} against an {@link InMemoryObjectStore}.
+ *
+ * @author KNIME GmbH
+ */
+final class CloudRemoteFileTest {
+
+    private final InMemoryObjectStore m_store = new InMemoryObjectStore();
+
+    private final ConnectionMonitor<InMemoryConnection> m_connectionMonitor = new ConnectionMonitor<>();
+
+    private final CloudConnectionInformation m_connectionInformation = new CloudConnectionInformation();
+
+    CloudRemoteFileTest() {
+        m_connectionInformation.setProtocol("memory");
+        m_connectionInformation.setHost("test");
+    }
+
+    @AfterEach
+    void closeConnections() {
+        m_connectionMonitor.closeAll();
+    }
+
+    private URI createURI(final String path) throws Exception {
+        return new URI("memory", null, "test", -1, path, null, null);
+    }
+
+    private InMemoryRemoteFile createFile(final String path) throws Exception {
+        return new InMemoryRemoteFile(createURI(path), m_connectionInformation, m_connectionMonitor, m_store);
+    }
+
+    /** Creates a file whose deletes claim success without deleting anything. */
+    private InMemoryRemoteFile createUndeletableFile(final String path) throws Exception {
+        return new InMemoryRemoteFile(createURI(path), m_connectionInformation, m_connectionMonitor, m_store) {
+
+            @Override
+            protected boolean deleteBlob() throws Exception {
+                return true;
+            }
+        };
+    }
+
+    private void setDeleteVerification(final CloudDeleteVerification deleteVerification) throws Exception {
+        createFile("/").getConnectionContext().setDeleteVerification(deleteVerification);
+    }
+
+    @Test
+    void testDeleteVerificationStrong() throws Exception {
+        m_store.putBlob("container", "file", new byte[1]);
+        setDeleteVerification(CloudDeleteVerification.STRONG);
+        final InMemoryRemoteFile file = createFile("/container/file");
+        assertTrue(file.exists());
+        m_store.resetCallCounts();
+
+        assertTrue(file.delete());
+        assertEquals(1, m_store.getCallCount(CloudOperation.DELETE_BLOB));
+        assertEquals(1, m_store.getCallCount(CloudOperation.BLOB_EXISTS), "deletes must be verified");
+        assertFalse(file.exists());
+        assertFalse(createFile("/container/file").exists());
+    }
+
+    @Test
+    void testDeleteVerificationStrongDetectsRemainingBlob() throws Exception {
+        m_store.putBlob("container", "file", new byte[1]);
+        setDeleteVerification(CloudDeleteVerification.STRONG);
+
+        assertFalse(createUndeletableFile("/container/file").delete(), "the blob still exists");
+        assertTrue(createFile("/container/file").exists());
+    }
+
+    @Test
+    void testDeleteVerificationTrustProvider() throws Exception {
+        m_store.putBlob("container", "file", new byte[1]);
+        setDeleteVerification(CloudDeleteVerification.TRUST_PROVIDER);
+        final InMemoryRemoteFile file = createFile("/container/file");
+        assertTrue(file.exists());
+        m_store.resetCallCounts();
+
+        assertTrue(file.delete());
+        assertFalse(file.exists());
+        assertEquals(1, m_store.getTotalCallCount(), "only the delete must be issued");
+        assertEquals(0, file.getSize());
+
+        assertTrue(createUndeletableFile("/container/file").delete(), "the provider is trusted");
+    }
+
+    private static List<String> createBlobs(final InMemoryObjectStore store, final int count) {
+        final List<String> paths = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final String blobName = String.format("dir/file%03d", i);
+            store.putBlob("container", blobName, new byte[1]);
+            paths.add("/container/" + blobName);
+        }
+        return paths;
+    }
+
+    private static Map<String, Boolean> expect(final List<String> existing, final String... missing) {
+        final Map<String, Boolean> expected = new LinkedHashMap<>();
+        existing.forEach(p -> expected.put(p, true));
+        for (final String path : missing) {
+            expected.put(path, false);
+        }
+        return expected;
+    }
+
+    @Test
+    void testExistsAllWithCompleteListing() throws Exception {
+        final List<String> paths = createBlobs(m_store, 5);
+        m_store.setPageSize(2);
+        final Map<String, Boolean> expected = expect(paths.subList(0, 3), "/container/dir/none");
+
+        assertEquals(expected, createFile("/").existsAll(expected.keySet()));
+        assertEquals(3, m_store.getCallCount(CloudOperation.LIST_DIRECTORY), "all pages must be listed");
+        assertEquals(0, m_store.getCallCount(CloudOperation.BLOB_EXISTS), "the listing must be trusted");
+    }
+
+    @Test
+    void testExistsAllWithIncompleteListing() throws Exception {
+        final List<String> paths = createBlobs(m_store, 100);
+        m_store.setPageSize(2);
+        final Map<String, Boolean> expected =
+            expect(List.of(paths.get(0), paths.get(50), paths.get(99)), "/container/dir/none");
+
+        assertEquals(expected, createFile("/").existsAll(expected.keySet()));
+        assertEquals(4, m_store.getCallCount(CloudOperation.LIST_DIRECTORY),
+            "the listing must stop after two pages per file");
+        assertEquals(3, m_store.getCallCount(CloudOperation.BLOB_EXISTS),
+            "the files not listed must be checked individually");
+    }
+
+    @Test
+    void testExistsAllBelowThreshold() throws Exception {
+        final List<String> paths = createBlobs(m_store, 100);
+        final Map<String, Boolean> expected = expect(paths.subList(0, 2), "/container/dir/none");
+
+        assertEquals(expected, createFile("/").existsAll(expected.keySet()));
+        assertEquals(0, m_store.getCallCount(CloudOperation.LIST_DIRECTORY));
+        assertEquals(3, m_store.getCallCount(CloudOperation.BLOB_EXISTS));
+    }
+
+    @Test
+    void testMkDirsCreatesContainerAndAllLevels() throws Exception {
+        assertTrue(createFile("/container/a/b/c").mkDirs());
+        assertEquals(1, m_store.getCallCount(CloudOperation.CREATE_CONTAINER));
+        assertEquals(3, m_store.getCallCount(CloudOperation.CREATE_DIRECTORY));
+        assertEquals(0, m_store.getCallCount(CloudOperation.BLOB_EXISTS),
+            "the levels in a new container must not be checked");
+        assertTrue(createFile("/container/a/b/c/").exists());
+    }
+
+    @Test
+    void testMkDirsReusesKnownLevels() throws Exception {
+        assertTrue(createFile("/container/a/b/").mkDirs());
+        m_store.resetCallCounts();
+
+        assertFalse(createFile("/container/a/b/").mkDirs());
+        assertEquals(0, m_store.getTotalCallCount(), "known directories must not be checked again");
+
+        assertTrue(createFile("/container/a/b/c/").mkDirs());
+        assertEquals(1, m_store.getCallCount(CloudOperation.BLOB_EXISTS));
+        assertEquals(1, m_store.getCallCount(CloudOperation.CREATE_DIRECTORY));
+        assertEquals(2, m_store.getTotalCallCount());
+    }
+
+    @Test
+    void testMkDirsChecksExistingLevels() throws Exception {
+        m_store.putBlob("container", "a/", new byte[0]);
+
+        assertTrue(createFile("/container/a/b/c/").mkDirs());
+        assertEquals(2, m_store.getCallCount(CloudOperation.BLOB_EXISTS),
+            "the levels below the first missing one must not be checked");
+        assertEquals(2, m_store.getCallCount(CloudOperation.CREATE_DIRECTORY));
+        assertEquals(0, m_store.getCallCount(CloudOperation.CREATE_CONTAINER));
+    }
+
+    @Test
+    void testMkDirsOfContainer() throws Exception {
+        assertTrue(createFile("/container/").mkDirs());
+        assertFalse(createFile("/container/").mkDirs());
+        assertEquals(1, m_store.getCallCount(CloudOperation.CREATE_CONTAINER));
+        assertEquals(0, m_store.getCallCount(CloudOperation.CREATE_DIRECTORY));
+    }
+
+    @Test
+    void testMkDirsWithLeadingDelimiter() throws Exception {
+        m_store.createContainer("container");
+
+        assertTrue(createFile("/container//a/").mkDirs());
+        assertEquals(1, m_store.getCallCount(CloudOperation.CREATE_DIRECTORY),
+            "the leading delimiter must not be created as a level of its own");
+        assertTrue(createFile("/container//a/").exists());
+    }
+}
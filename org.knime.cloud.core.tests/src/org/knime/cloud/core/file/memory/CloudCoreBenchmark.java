@@ -0,0 +1,333 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH): created
+ */
+package org.knime.cloud.core.file.memory;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import org.knime.base.filehandling.remote.files.ConnectionMonitor;
+import org.knime.cloud.core.file.CloudPath;
+import org.knime.cloud.core.filehandling.signedurl.SignedUrlConfig;
+import org.knime.cloud.core.util.port.CloudConnectionInformation;
+import org.knime.core.node.ModelContent;
+
+/**
+ * Benchmark harness for the cloud core file abstraction. Each benchmark runs an operation repeatedly against an
+ * {@link InMemoryObjectStore} and reports the number of operations per second, the bytes allocated per operation and
+ * the number of remote calls each operation issued, so that changes in any of them can be spotted between releases.
+ * The results of the operations are passed to a {@link Blackhole}, so that the JIT can not eliminate the measured
+ * work. It is run via {@link #main}, the optional argument being the measurement time per benchmark in milliseconds.
+ *
+ * @author KNIME GmbH
+ */
+public final class CloudCoreBenchmark {
+
+    private static final String[] PATHS =
+        {"/", "/container", "/container/", "/container/blob", "/container/dir/", "/container/dir/sub/blob.csv"};
+
+    private static final int FILES_PER_DIRECTORY = 1000;
+
+    private final InMemoryObjectStore m_store = new InMemoryObjectStore();
+
+    private final ConnectionMonitor<InMemoryConnection> m_connectionMonitor = new ConnectionMonitor<>();
+
+    private final CloudConnectionInformation m_connectionInformation = new CloudConnectionInformation();
+
+    private final Blackhole m_blackhole = new Blackhole();
+
+    private final Duration m_measurementTime;
+
+    /**
+     * Constructor.
+     *
+     * @param measurementTime the time each benchmark is measured, after a warm up of half that time
+     */
+    public CloudCoreBenchmark(final Duration measurementTime) {
+        m_measurementTime = measurementTime;
+        m_connectionInformation.setProtocol("memory");
+        m_connectionInformation.setHost("benchmark");
+        for (int i = 0; i < FILES_PER_DIRECTORY; i++) {
+            m_store.putBlob("container", "dir/file" + i, new byte[i % 100]);
+        }
+    }
+
+    /**
+     * Runs all benchmarks.
+     *
+     * @return the results of the benchmarks
+     * @throws Exception if a benchmark fails
+     */
+    public List<Result> run() throws Exception {
+        final List<Result> results = new ArrayList<>();
+        results.add(measure("CloudPath.parse", bh -> {
+            for (final String path : PATHS) {
+                bh.consume(CloudPath.parse(path));
+            }
+        }));
+        results.add(measure("CloudRemoteFile.getBlobName", bh -> {
+            for (final String path : PATHS) {
+                bh.consume(createFile(path).getBlobName());
+            }
+        }));
+        results.add(measure("CloudRemoteFile.exists", bh -> bh.consume(createFile("/container/dir/file1").exists())));
+        results.add(measure("CloudRemoteFile.exists (missing)",
+            bh -> bh.consume(createFile("/container/dir/none").exists())));
+        results.add(measure("CloudRemoteFile.getSize", bh -> bh.consume(createFile("/container/dir/file1").getSize())));
+        results.add(measure("CloudRemoteFile.getSize (directory)",
+            bh -> bh.consume(createFile("/container/dir/").getSize())));
+        results.add(measure("CloudRemoteFile.listFiles", bh -> bh.consume(createFile("/container/dir/").listFiles())));
+        results.add(measure("CloudConnectionInformation.save/load", bh -> {
+            final ModelContent model = new ModelContent("connection");
+            m_connectionInformation.save(model);
+            bh.consume(CloudConnectionInformation.load(model));
+        }));
+        final SignedUrlConfig config = new SignedUrlConfig(Duration.ofDays(7));
+        results.add(measure("SignedUrlConfig.getValidityDuration", bh -> bh.consume(config.getValidityDuration())));
+        return results;
+    }
+
+    private InMemoryRemoteFile createFile(final String path) throws Exception {
+        return new InMemoryRemoteFile(new URI("memory", null, "benchmark", -1, path, null, null),
+            m_connectionInformation, m_connectionMonitor, m_store);
+    }
+
+    /**
+     * Runs the given operation repeatedly for the warm up and measurement time.
+     *
+     * @param name the name of the benchmark
+     * @param operation the operation
+     * @return the result of the measurement
+     * @throws Exception if the operation fails
+     */
+    public Result measure(final String name, final Operation operation) throws Exception {
+        repeat(operation, m_measurementTime.toNanos() / 2);
+        m_store.resetCallCounts();
+        final long allocatedBytes = getAllocatedBytes();
+        final long start = System.nanoTime();
+        final long operations = repeat(operation, m_measurementTime.toNanos());
+        final long nanos = System.nanoTime() - start;
+        final long allocated = allocatedBytes < 0 ? -1 : (getAllocatedBytes() - allocatedBytes);
+        return new Result(name, operations, nanos, allocated, m_store.getTotalCallCount());
+    }
+
+    private long repeat(final Operation operation, final long nanos) throws Exception {
+        final long end = System.nanoTime() + nanos;
+        long operations = 0;
+        do {
+            operation.run(m_blackhole);
+            operations++;
+        } while (System.nanoTime() < end);
+        return operations;
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread so far, as reported by
+     * <code>com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)</code>. The bean is accessed via the
+     * platform MBean server, which does not require access to the <code>com.sun.management</code> package.
+     *
+     * @return the allocated bytes, or -1 if the runtime does not measure them
+     */
+    private static long getAllocatedBytes() {
+        try {
+            final Object bytes = ManagementFactory.getPlatformMBeanServer().invoke(
+                new ObjectName(ManagementFactory.THREAD_MXBEAN_NAME), "getThreadAllocatedBytes",
+                new Object[]{Thread.currentThread().getId()}, new String[]{long.class.getName()});
+            return bytes instanceof Long ? (Long)bytes : -1;
+        } catch (final JMException | RuntimeException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Runs all benchmarks and prints their results.
+     *
+     * @param args the measurement time per benchmark in milliseconds, 2000 if omitted
+     * @throws Exception if a benchmark fails
+     */
+    public static void main(final String[] args) throws Exception {
+        final Duration measurementTime = Duration.ofMillis(args.length > 0 ? Long.parseLong(args[0]) : 2000);
+        for (final Result result : new CloudCoreBenchmark(measurementTime).run()) {
+            System.out.println(result);
+        }
+    }
+
+    /**
+     * An operation to be benchmarked.
+     */
+    @FunctionalInterface
+    public interface Operation {
+
+        /**
+         * Runs the operation once.
+         *
+         * @param blackhole consumes the results of the operation
+         * @throws Exception if the operation fails
+         */
+        void run(Blackhole blackhole) throws Exception;
+    }
+
+    /**
+     * Consumes the results of benchmarked operations, so that the JIT can neither eliminate their computation nor,
+     * by escape analysis, their allocation.
+     */
+    public static final class Blackhole {
+
+        private Object m_last;
+
+        private long m_sum;
+
+        private Blackhole() {
+        }
+
+        /**
+         * @param value the result of an operation
+         */
+        public void consume(final Object value) {
+            m_last = value;
+        }
+
+        /**
+         * @param value the result of an operation
+         */
+        public void consume(final long value) {
+            m_sum += value;
+        }
+
+        /**
+         * @param value the result of an operation
+         */
+        public void consume(final boolean value) {
+            m_sum += value ? 1 : 0;
+        }
+
+        @Override
+        public String toString() {
+            return m_sum + " " + m_last;
+        }
+    }
+
+    /**
+     * The result of a benchmark.
+     */
+    public static final class Result {
+
+        private final String m_name;
+
+        private final long m_operations;
+
+        private final long m_nanos;
+
+        private final long m_allocatedBytes;
+
+        private final long m_remoteCalls;
+
+        private Result(final String name, final long operations, final long nanos, final long allocatedBytes,
+            final long remoteCalls) {
+            m_name = name;
+            m_operations = operations;
+            m_nanos = nanos;
+            m_allocatedBytes = allocatedBytes;
+            m_remoteCalls = remoteCalls;
+        }
+
+        /**
+         * @return the name of the benchmark
+         */
+        public String getName() {
+            return m_name;
+        }
+
+        /**
+         * @return the number of operations run during the measurement
+         */
+        public long getOperations() {
+            return m_operations;
+        }
+
+        /**
+         * @return the number of operations per second
+         */
+        public double getOperationsPerSecond() {
+            return m_operations * 1e9 / m_nanos;
+        }
+
+        /**
+         * @return the mean number of bytes allocated per operation, or -1 if the runtime does not measure them
+         */
+        public double getAllocatedBytesPerOperation() {
+            return m_allocatedBytes < 0 ? -1 : ((double)m_allocatedBytes / m_operations);
+        }
+
+        /**
+         * @return the number of remote calls issued during the measurement
+         */
+        public long getRemoteCalls() {
+            return m_remoteCalls;
+        }
+
+        /**
+         * @return the mean number of remote calls per operation
+         */
+        public double getRemoteCallsPerOperation() {
+            return (double)m_remoteCalls / m_operations;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-40s %12.1f ops/s %12.1f B/op %10.2f remote calls/op", m_name,
+                getOperationsPerSecond(), getAllocatedBytesPerOperation(), getRemoteCallsPerOperation());
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH): created
+ */
+package org.knime.cloud.core.file.memory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.knime.cloud.core.file.memory.CloudCoreBenchmark.Result;
+
+/**
+ * Runs the {@link CloudCoreBenchmark} briefly and checks the number of remote calls each benchmarked operation
+ * issues, so that a regression in it is noticed without looking at the benchmark output.
+ *
+ * @author KNIME GmbH
+ */
+final class CloudCoreBenchmarkTest {
+
+    private static final Map<String, Double> REMOTE_CALLS_PER_OPERATION = Map.of( //
+        "CloudPath.parse", 0d, //
+        "CloudRemoteFile.getBlobName", 0d, //
+        "CloudRemoteFile.exists", 1d, //
+        "CloudRemoteFile.exists (missing)", 1d, //
+        "CloudRemoteFile.getSize", 2d, //
+        "CloudRemoteFile.getSize (directory)", 2d, //
+        "CloudRemoteFile.listFiles", 1d, //
+        "CloudConnectionInformation.save/load", 0d, //
+        "SignedUrlConfig.getValidityDuration", 0d);
+
+    @Test
+    void testRemoteCallsPerOperation() throws Exception {
+        final List<Result> results = new CloudCoreBenchmark(Duration.ofMillis(20)).run();
+        assertEquals(REMOTE_CALLS_PER_OPERATION.size(), results.size());
+        for (final Result result : results) {
+            assertTrue(REMOTE_CALLS_PER_OPERATION.containsKey(result.getName()), result.getName());
+            assertTrue(result.getOperations() > 0, result.getName());
+            final double expected = REMOTE_CALLS_PER_OPERATION.get(result.getName());
+            assertEquals(expected, result.getRemoteCallsPerOperation(), 0.01, result.getName());
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH): created
+ */
+package org.knime.cloud.core.file.memory;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.knime.cloud.core.file.CloudOperation;
+
+/**
+ * Object store held in memory that serves as backend of {@link InMemoryRemoteFile}s. Every remote operation is
+ * counted and can be slowed down by a configurable latency or fail at a configurable rate, which allows to measure
+ * the number of remote calls issued by {@link org.knime.cloud.core.file.CloudRemoteFile} and to simulate unreliable
+ * providers.
+ *
+ * @author KNIME GmbH
+ */
+public final class InMemoryObjectStore {
+
+    private final Map<String, NavigableMap<String, InMemoryBlob>> m_containers = new ConcurrentHashMap<>();
+
+    private final Map<CloudOperation, LongAdder> m_calls = new ConcurrentHashMap<>();
+
+    private volatile long m_latencyNanos = 0;
+
+    private volatile double m_failureRate = 0;
+
+    private volatile int m_pageSize = 1000;
+
+    /**
+     * Creates the given container if it does not exist yet.
+     *
+     * @param containerName the name of the container
+     * @return <code>true</code> if the container was created
+     */
+    public boolean createContainer(final String containerName) {
+        return m_containers.putIfAbsent(containerName, new ConcurrentSkipListMap<>()) == null;
+    }
+
+    /**
+     * Stores a blob, creating its container if necessary.
+     *
+     * @param containerName the name of the container
+     * @param blobName the name of the blob
+     * @param data the content of the blob
+     */
+    public void putBlob(final String containerName, final String blobName, final byte[] data) {
+        m_containers.computeIfAbsent(containerName, c -> new ConcurrentSkipListMap<>()).put(blobName,
+            new InMemoryBlob(data, System.currentTimeMillis()));
+    }
+
+    /**
+     * Sets the latency every remote operation is delayed by.
+     *
+     * @param latency the latency
+     * @param unit the unit of the latency
+     */
+    public void setLatency(final long latency, final TimeUnit unit) {
+        m_latencyNanos = unit.toNanos(latency);
+    }
+
+    /**
+     * Sets the rate at which remote operations fail with an {@link IOException}.
+     *
+     * @param failureRate the failure rate between 0 and 1
+     */
+    public void setFailureRate(final double failureRate) {
+        m_failureRate = failureRate;
+    }
+
+    /**
+     * Sets the maximum number of entries returned per page of a listing.
+     *
+     * @param pageSize the page size
+     */
+    public void setPageSize(final int pageSize) {
+        m_pageSize = Math.max(1, pageSize);
+    }
+
+    /**
+     * @return the maximum number of entries returned per page of a listing
+     */
+    public int getPageSize() {
+        return m_pageSize;
+    }
+
+    /**
+     * Returns how often the given operation was invoked.
+     *
+     * @param operation the operation
+     * @return the number of invocations
+     */
+    public long getCallCount(final CloudOperation operation) {
+        final LongAdder calls = m_calls.get(operation);
+        return calls == null ? 0 : calls.sum();
+    }
+
+    /**
+     * @return the number of invocations of all operations that were invoked at least once
+     */
+    public Map<CloudOperation, Long> getCallCounts() {
+        final Map<CloudOperation, Long> counts = new EnumMap<>(CloudOperation.class);
+        m_calls.forEach((op, calls) -> counts.put(op, calls.sum()));
+        return counts;
+    }
+
+    /**
+     * @return the total number of invocations of all operations
+     */
+    public long getTotalCallCount() {
+        return m_calls.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * Resets all call counters.
+     */
+    public void resetCallCounts() {
+        m_calls.clear();
+    }
+
+    /**
+     * Records the invocation of a remote operation and applies the configured latency and failure rate.
+     *
+     * @param operation the invoked operation
+     * @throws IOException if the invocation is chosen to fail
+     */
+    void call(final CloudOperation operation) throws IOException {
+        m_calls.computeIfAbsent(operation, op -> new LongAdder()).increment();
+        final long latency = m_latencyNanos;
+        if (latency > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(latency);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while invoking " + operation, e);
+            }
+        }
+        final double failureRate = m_failureRate;
+        if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+            throw new IOException("Injected failure of " + operation);
+        }
+    }
+
+    Set<String> getContainerNames() {
+        return Collections.unmodifiableSet(m_containers.keySet());
+    }
+
+    NavigableMap<String, InMemoryBlob> getContainer(final String containerName) {
+        return m_containers.get(containerName);
+    }
+
+    boolean deleteContainer(final String containerName) {
+        return m_containers.remove(containerName) != null;
+    }
+
+    /**
+     * A blob held in memory.
+     */
+    static final class InMemoryBlob {
+
+        private final byte[] m_data;
+
+        private final long m_lastModified;
+
+        InMemoryBlob(final byte[] data, final long lastModified) {
+            m_data = data.clone();
+            m_lastModified = lastModified;
+        }
+
+        byte[] getData() {
+            return m_data.clone();
+        }
+
+        long getSize() {
+            return m_data.length;
+        }
+
+        long getLastModified() {
+            return m_lastModified;
+        }
+    }
+}
@@ -0,0 +1,382 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH): created
+ */
+package org.knime.cloud.core.file.memory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeSet;
+
+import org.knime.base.filehandling.remote.connectioninformation.port.ConnectionInformation;
+import org.knime.base.filehandling.remote.files.ConnectionMonitor;
+import org.knime.cloud.core.file.CloudBlobMetadata;
+import org.knime.cloud.core.file.CloudListingPage;
+import org.knime.cloud.core.file.CloudOperation;
+import org.knime.cloud.core.file.CloudRemoteFile;
+import org.knime.cloud.core.file.CloudRemoteIterator;
+import org.knime.cloud.core.file.memory.InMemoryObjectStore.InMemoryBlob;
+
+/**
+ * Reference implementation of {@link CloudRemoteFile} backed by an {@link InMemoryObjectStore}. It implements all
+ * optional hooks, i.e. paginated and flat recursive listings and batch deletes, the way a real provider would, and
+ * can be used to measure and regression test the remote calls issued by {@link CloudRemoteFile} without access to
+ * an actual cloud storage.
+ *
+ * @author KNIME GmbH
+ */
+public class InMemoryRemoteFile extends CloudRemoteFile<InMemoryConnection> {
+
+    private final InMemoryObjectStore m_store;
+
+    /**
+     * Constructor.
+     *
+     * @param uri the URI of the file
+     * @param connectionInformation the connection information
+     * @param connectionMonitor the connection monitor
+     * @param store the store holding the blobs
+     */
+    public InMemoryRemoteFile(final URI uri, final ConnectionInformation connectionInformation,
+        final ConnectionMonitor<InMemoryConnection> connectionMonitor, final InMemoryObjectStore store) {
+        super(uri, connectionInformation, connectionMonitor);
+        m_store = store;
+    }
+
+    private InMemoryRemoteFile(final URI uri, final ConnectionInformation connectionInformation,
+        final ConnectionMonitor<InMemoryConnection> connectionMonitor, final InMemoryObjectStore store,
+        final CloudBlobMetadata listingMetadata) {
+        super(uri, connectionInformation, connectionMonitor, listingMetadata);
+        m_store = store;
+    }
+
+    @Override
+    protected InMemoryConnection createConnection() {
+        return new InMemoryConnection(m_store);
+    }
+
+    @Override
+    protected CloudRemoteFile<InMemoryConnection> newInstance(final URI uri) {
+        return new InMemoryRemoteFile(uri, getConnectionInformation(), getConnectionMonitor(), m_store);
+    }
+
+    private InMemoryObjectStore getStore(final CloudOperation operation) throws Exception {
+        final InMemoryObjectStore store = getOpenedConnection().getStore();
+        store.call(operation);
+        return store;
+    }
+
+    private NavigableMap<String, InMemoryBlob> getContainer(final InMemoryObjectStore store,
+        final String containerName) throws FileNotFoundException {
+        final NavigableMap<String, InMemoryBlob> container = store.getContainer(containerName);
+        if (container == null) {
+            throw new FileNotFoundException("The container \"" + containerName + "\" does not exist");
+        }
+        return container;
+    }
+
+    private InMemoryBlob getBlob(final InMemoryObjectStore store) throws Exception {
+        final InMemoryBlob blob = getContainer(store, getContainerName()).get(getBlobName());
+        if (blob == null) {
+            throw new FileNotFoundException("The file \"" + getBlobName() + "\" does not exist");
+        }
+        return blob;
+    }
+
+    private URI createURI(final String path) throws URISyntaxException {
+        return new URI(getURI().getScheme(), getURI().getUserInfo(), getURI().getHost(), getURI().getPort(), path,
+            null, null);
+    }
+
+    private String getDirectoryPrefix() throws Exception {
+        final String blobName = getBlobName();
+        if (blobName == null) {
+            return "";
+        }
+        return blobName.endsWith(DELIMITER) ? blobName : (blobName + DELIMITER);
+    }
+
+    @Override
+    protected boolean doesContainerExist(final String containerName) throws Exception {
+        return getStore(CloudOperation.CONTAINER_EXISTS).getContainer(containerName) != null;
+    }
+
+    @Override
+    protected boolean doestBlobExist(final String containerName, final String blobName) throws Exception {
+        final NavigableMap<String, InMemoryBlob> container =
+            getStore(CloudOperation.BLOB_EXISTS).getContainer(containerName);
+        if (container == null) {
+            return false;
+        }
+        if (container.containsKey(blobName)) {
+            return true;
+        }
+        // directories exist as long as there is a blob with their prefix
+        final String next = container.ceilingKey(blobName);
+        return blobName.endsWith(DELIMITER) && next != null && next.startsWith(blobName);
+    }
+
+    @Override
+    protected CloudRemoteFile<InMemoryConnection>[] listRootFiles() throws Exception {
+        return toArray(collect(listFilesIterator()));
+    }
+
+    @Override
+    protected CloudRemoteFile<InMemoryConnection>[] listDirectoryFiles() throws Exception {
+        return toArray(collect(listFilesIterator()));
+    }
+
+    @Override
+    protected CloudListingPage<CloudRemoteFile<InMemoryConnection>> listRootFilesPage(final String pageToken)
+        throws Exception {
+        final InMemoryObjectStore store = getStore(CloudOperation.LIST_ROOT);
+        final TreeSet<String> containerNames = new TreeSet<>(store.getContainerNames());
+        final List<CloudRemoteFile<InMemoryConnection>> files = new ArrayList<>();
+        String last = null;
+        for (final String containerName : pageToken == null ? containerNames
+            : containerNames.tailSet(pageToken, false)) {
+            if (files.size() == store.getPageSize()) {
+                return new CloudListingPage<>(files, last);
+            }
+            files.add(new InMemoryRemoteFile(createURI(DELIMITER + containerName + DELIMITER),
+                getConnectionInformation(), getConnectionMonitor(), m_store, null));
+            last = containerName;
+        }
+        return new CloudListingPage<>(files, null);
+    }
+
+    @Override
+    protected CloudListingPage<CloudRemoteFile<InMemoryConnection>> listDirectoryFilesPage(final String pageToken)
+        throws Exception {
+        final InMemoryObjectStore store = getStore(CloudOperation.LIST_DIRECTORY);
+        final String containerName = getContainerName();
+        final NavigableMap<String, InMemoryBlob> container = getContainer(store, containerName);
+        final String prefix = getDirectoryPrefix();
+        final List<CloudRemoteFile<InMemoryConnection>> files = new ArrayList<>();
+        String last = pageToken;
+        for (final Map.Entry<String, InMemoryBlob> entry : (pageToken == null ? container.tailMap(prefix, true)
+            : container.tailMap(pageToken, false)).entrySet()) {
+            final String key = entry.getKey();
+            if (!key.startsWith(prefix)) {
+                break;
+            }
+            final String rest = key.substring(prefix.length());
+            if (rest.isEmpty() || (last != null && last.endsWith(DELIMITER) && key.startsWith(last))) {
+                // the directory itself or content of a directory that was already listed
+                continue;
+            }
+            if (files.size() == store.getPageSize()) {
+                return new CloudListingPage<>(files, last);
+            }
+            final int idx = rest.indexOf(DELIMITER);
+            if (idx >= 0) {
+                last = prefix + rest.substring(0, idx + 1);
+                files.add(new InMemoryRemoteFile(createURI(DELIMITER + containerName + DELIMITER + last),
+                    getConnectionInformation(), getConnectionMonitor(), m_store, null));
+            } else {
+                last = key;
+                final InMemoryBlob blob = entry.getValue();
+                files.add(new InMemoryRemoteFile(createURI(DELIMITER + containerName + DELIMITER + key),
+                    getConnectionInformation(), getConnectionMonitor(), m_store,
+                    new CloudBlobMetadata(containerName, key, blob.getSize(), blob.getLastModified())));
+            }
+        }
+        return new CloudListingPage<>(files, null);
+    }
+
+    @Override
+    protected int getBatchExistsListingEntriesPerFile() {
+        return m_store.getPageSize();
+    }
+
+    @Override
+    protected boolean supportsRecursiveListing() {
+        return true;
+    }
+
+    @Override
+    protected CloudListingPage<CloudBlobMetadata> listBlobMetadataRecursivePage(final String pageToken)
+        throws Exception {
+        final InMemoryObjectStore store = getStore(CloudOperation.LIST_RECURSIVE);
+        final String containerName = getContainerName();
+        final NavigableMap<String, InMemoryBlob> container = getContainer(store, containerName);
+        final String prefix = getDirectoryPrefix();
+        final List<CloudBlobMetadata> blobs = new ArrayList<>();
+        for (final Map.Entry<String, InMemoryBlob> entry : (pageToken == null ? container.tailMap(prefix, true)
+            : container.tailMap(pageToken, false)).entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                break;
+            }
+            if (blobs.size() == store.getPageSize()) {
+                return new CloudListingPage<>(blobs, blobs.get(blobs.size() - 1).getBlobName());
+            }
+            blobs.add(new CloudBlobMetadata(containerName, entry.getKey(), entry.getValue().getSize(),
+                entry.getValue().getLastModified()));
+        }
+        return new CloudListingPage<>(blobs, null);
+    }
+
+    @Override
+    protected long getBlobSize() throws Exception {
+        return getBlob(getStore(CloudOperation.BLOB_SIZE)).getSize();
+    }
+
+    @Override
+    protected long getLastModified() throws Exception {
+        return getBlob(getStore(CloudOperation.LAST_MODIFIED)).getLastModified();
+    }
+
+    @Override
+    protected boolean deleteContainer() throws Exception {
+        return getStore(CloudOperation.DELETE_CONTAINER).deleteContainer(getContainerName());
+    }
+
+    @Override
+    protected boolean deleteDirectory() throws Exception {
+        final NavigableMap<String, InMemoryBlob> container =
+            getContainer(getStore(CloudOperation.DELETE_DIRECTORY), getContainerName());
+        final String prefix = getDirectoryPrefix();
+        container.keySet().removeIf(k -> k.startsWith(prefix));
+        return true;
+    }
+
+    @Override
+    protected boolean deleteBlob() throws Exception {
+        return getContainer(getStore(CloudOperation.DELETE_BLOB), getContainerName()).remove(getBlobName()) != null;
+    }
+
+    @Override
+    protected boolean supportsBatchDelete() {
+        return true;
+    }
+
+    @Override
+    protected Map<String, Exception> deleteBlobs(final String containerName, final List<String> blobNames)
+        throws Exception {
+        final NavigableMap<String, InMemoryBlob> container =
+            getContainer(getStore(CloudOperation.DELETE_BLOBS), containerName);
+        blobNames.forEach(container::remove);
+        return Collections.emptyMap();
+    }
+
+    @Override
+    protected boolean createContainer() throws Exception {
+        return getStore(CloudOperation.CREATE_CONTAINER).createContainer(getContainerName());
+    }
+
+    @Override
+    protected boolean createDirectory(final String dirName) throws Exception {
+        final InMemoryObjectStore store = getStore(CloudOperation.CREATE_DIRECTORY);
+        getContainer(store, getContainerName());
+        store.putBlob(getContainerName(), dirName, new byte[0]);
+        return true;
+    }
+
+    @Override
+    public InputStream openInputStream() throws Exception {
+        return new ByteArrayInputStream(getBlob(getStore(CloudOperation.READ)).getData());
+    }
+
+    @Override
+    public OutputStream openOutputStream() throws Exception {
+        final String containerName = getContainerName();
+        final String blobName = getBlobName();
+        getContainer(getOpenedConnection().getStore(), containerName);
+        return new ByteArrayOutputStream() {
+
+            private boolean m_closed = false;
+
+            @Override
+            public void close() throws IOException {
+                if (!m_closed) {
+                    m_closed = true;
+                    final InMemoryObjectStore store = m_store;
+                    store.call(CloudOperation.WRITE);
+                    store.putBlob(containerName, blobName, toByteArray());
+                    try {
+                        invalidateMetadataCache();
+                    } catch (final IOException e) {
+                        throw e;
+                    } catch (final Exception e) {
+                        throw new IOException(e);
+                    }
+                }
+            }
+        };
+    }
+
+    @Override
+    public URI getHadoopFilesystemURI() throws Exception {
+        throw new UnsupportedOperationException("In-memory files can not be accessed via Hadoop");
+    }
+
+    private static List<CloudRemoteFile<InMemoryConnection>> collect(
+        final CloudRemoteIterator<CloudRemoteFile<InMemoryConnection>> files) throws Exception {
+        final List<CloudRemoteFile<InMemoryConnection>> list = new ArrayList<>();
+        while (files.hasNext()) {
+            list.add(files.next());
+        }
+        return list;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CloudRemoteFile<InMemoryConnection>[] toArray(
+        final List<CloudRemoteFile<InMemoryConnection>> files) {
+        return files.toArray(new CloudRemoteFile[files.size()]);
+    }
+}
@@ -0,0 +1,386 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH): created
+ */
+package org.knime.cloud.core.file;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.base.filehandling.remote.connectioninformation.port.ConnectionInformation;
+import org.knime.base.filehandling.remote.files.Connection;
+import org.knime.cloud.core.util.port.CloudConnectionInformation;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.util.CheckUtils;
+
+/**
+ * Process wide pool of provider clients, e.g. the SDK client of a cloud storage, keyed by the equality of the
+ * {@link ConnectionInformation} they were created for, which must therefore not be modified once it was used to lease
+ * a client. Creating such a client involves TLS handshakes and the resolution of credentials such as role switches
+ * and session tokens, which dominates the runtime of short node executions and loop iterations.
+ * <p>
+ * A {@link Connection} leases its client in {@link Connection#open()} and closes the lease in
+ * {@link Connection#close()}, which is invoked when a node's connection monitor is closed. A client is shared by all
+ * concurrent leases of equal connection informations and reference counted. Once it is not leased anymore, it stays
+ * in the pool until it is idle for longer than the idle timeout or the number of idle clients exceeds the pool's
+ * bound. Clients that fail their health check are not handed out again and closed once their last lease is closed.
+ *
+ * @author KNIME GmbH
+ */
+public final class CloudClientPool {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(CloudClientPool.class);
+
+    /** The default maximum number of idle clients in the pool. */
+    public static final int DEFAULT_MAX_IDLE = Integer.getInteger("knime.cloud.pool.maxidle", 16);
+
+    /** The default time in milliseconds after which an idle client is evicted. */
+    public static final long DEFAULT_IDLE_TIMEOUT_MILLIS = Long.getLong("knime.cloud.pool.idletimeout", 300000);
+
+    private static final CloudClientPool INSTANCE =
+        new CloudClientPool(DEFAULT_MAX_IDLE, Duration.ofMillis(DEFAULT_IDLE_TIMEOUT_MILLIS));
+
+    private final int m_maxIdle;
+
+    private final long m_idleTimeoutNanos;
+
+    /** The pooled entries in the order of their last release, least recently released first. */
+    private final Map<Key, Entry<?>> m_entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private ScheduledExecutorService m_evictor = null;
+
+    /**
+     * Constructor.
+     *
+     * @param maxIdle the maximum number of idle clients
+     * @param idleTimeout the time after which an idle client is evicted
+     */
+    public CloudClientPool(final int maxIdle, final Duration idleTimeout) {
+        CheckUtils.checkArgument(maxIdle >= 0, "The maximum number of idle clients must not be negative.");
+        CheckUtils.checkArgument(!idleTimeout.isNegative(), "The idle timeout must not be negative.");
+        m_maxIdle = maxIdle;
+        m_idleTimeoutNanos = idleTimeout.toNanos();
+    }
+
+    /**
+     * @return the process wide pool
+     */
+    public static CloudClientPool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Leases the client for the given connection information, creating it if the pool holds no healthy client for
+     * an equal connection information.
+     *
+     * @param connectionInformation the connection information
+     * @param type the type of the client, distinguishing the clients of different providers
+     * @param factory the factory creating the client
+     * @return the lease, which must be closed once the client is not used anymore
+     * @throws Exception if the client can not be created
+     */
+    public <T> Lease<T> lease(final ConnectionInformation connectionInformation, final Class<T> type,
+        final CloudClientFactory<T> factory) throws Exception {
+        final Key key = new Key(connectionInformation, type);
+        final List<Entry<?>> evicted = new ArrayList<>();
+        final Entry<T> entry = leasePooled(key);
+        if (entry != null) {
+            // check the health outside the lock, as this might involve remote calls
+            boolean healthy = false;
+            try {
+                healthy = factory.isHealthy(entry.m_client);
+            } finally {
+                if (!healthy) {
+                    synchronized (this) {
+                        LOGGER.debug("Discard unhealthy pooled client for \"" + key + "\"");
+                        m_entries.remove(key, entry);
+                        entry.m_retired = true;
+                        entry.m_leases--;
+                        if (entry.m_leases == 0) {
+                            evicted.add(entry);
+                        }
+                    }
+                    close(evicted);
+                }
+            }
+            if (healthy) {
+                return new Lease<>(this, key, entry);
+            }
+        }
+        // create the client outside the lock, as this might take a while
+        final Entry<T> created = new Entry<>(factory.create(connectionInformation), factory);
+        created.m_leases = 1;
+        synchronized (this) {
+            final Entry<?> previous = m_entries.put(key, created);
+            if (previous != null) {
+                // another thread created a client concurrently, which is kept until its leases are closed
+                previous.m_retired = true;
+                if (previous.m_leases == 0) {
+                    evicted.add(previous);
+                }
+            }
+        }
+        close(evicted);
+        return new Lease<>(this, key, created);
+    }
+
+    /**
+     * Leases the pooled client for the given key, if any, for its health check, which keeps it from being evicted
+     * meanwhile.
+     */
+    @SuppressWarnings("unchecked")
+    private synchronized <T> Entry<T> leasePooled(final Key key) {
+        final Entry<T> entry = (Entry<T>)m_entries.get(key);
+        if (entry != null) {
+            entry.m_leases++;
+        }
+        return entry;
+    }
+
+    private void release(final Key key, final Entry<?> entry) {
+        final List<Entry<?>> evicted = new ArrayList<>();
+        synchronized (this) {
+            entry.m_leases--;
+            if (entry.m_leases == 0) {
+                entry.m_releasedNanos = System.nanoTime();
+                if (entry.m_retired) {
+                    evicted.add(entry);
+                } else {
+                    // mark as most recently used
+                    m_entries.get(key);
+                    evictIdle(evicted, System.nanoTime());
+                    scheduleEviction();
+                }
+            }
+        }
+        close(evicted);
+    }
+
+    /**
+     * Evicts the clients that have been idle for longer than the idle timeout or exceed the maximum number of idle
+     * clients.
+     */
+    public void evictIdle() {
+        final List<Entry<?>> evicted = new ArrayList<>();
+        synchronized (this) {
+            evictIdle(evicted, System.nanoTime());
+        }
+        close(evicted);
+    }
+
+    private void evictIdle(final List<Entry<?>> evicted, final long now) {
+        int idle = (int)m_entries.values().stream().filter(e -> e.m_leases == 0).count();
+        for (final Iterator<Entry<?>> it = m_entries.values().iterator(); it.hasNext();) {
+            final Entry<?> entry = it.next();
+            if (entry.m_leases == 0 && (idle > m_maxIdle || now - entry.m_releasedNanos >= m_idleTimeoutNanos)) {
+                it.remove();
+                entry.m_retired = true;
+                evicted.add(entry);
+                idle--;
+            }
+        }
+    }
+
+    private void scheduleEviction() {
+        if (m_evictor == null && m_idleTimeoutNanos > 0) {
+            m_evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+                final Thread thread = new Thread(r, "KNIME-Cloud-Client-Pool-Evictor");
+                thread.setDaemon(true);
+                return thread;
+            });
+            final long period = Math.max(TimeUnit.SECONDS.toNanos(1), m_idleTimeoutNanos / 2);
+            m_evictor.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Closes all idle clients and retires the leased ones, which are closed once their leases are closed.
+     */
+    public void clear() {
+        final List<Entry<?>> evicted = new ArrayList<>();
+        synchronized (this) {
+            for (final Entry<?> entry : m_entries.values()) {
+                entry.m_retired = true;
+                if (entry.m_leases == 0) {
+                    evicted.add(entry);
+                }
+            }
+            m_entries.clear();
+        }
+        close(evicted);
+    }
+
+    /**
+     * @return the number of pooled clients, leased or idle
+     */
+    public synchronized int size() {
+        return m_entries.size();
+    }
+
+    private static void close(final List<Entry<?>> entries) {
+        for (final Entry<?> entry : entries) {
+            entry.close();
+        }
+        entries.clear();
+    }
+
+    /**
+     * A lease of a pooled client.
+     *
+     * @param <T> the type of the client
+     */
+    public static final class Lease<T> implements AutoCloseable {
+
+        private final CloudClientPool m_pool;
+
+        private final Key m_key;
+
+        private final Entry<T> m_entry;
+
+        private boolean m_closed = false;
+
+        private Lease(final CloudClientPool pool, final Key key, final Entry<T> entry) {
+            m_pool = pool;
+            m_key = key;
+            m_entry = entry;
+        }
+
+        /**
+         * @return the leased client
+         */
+        public T get() {
+            return m_entry.m_client;
+        }
+
+        /**
+         * Returns the client to the pool. Closing a lease more than once has no effect.
+         */
+        @Override
+        public void close() {
+            synchronized (this) {
+                if (m_closed) {
+                    return;
+                }
+                m_closed = true;
+            }
+            m_pool.release(m_key, m_entry);
+        }
+    }
+
+    private static final class Entry<T> {
+
+        private final T m_client;
+
+        private final CloudClientFactory<T> m_factory;
+
+        private int m_leases = 0;
+
+        private long m_releasedNanos;
+
+        private boolean m_retired = false;
+
+        private Entry(final T client, final CloudClientFactory<T> factory) {
+            m_client = client;
+            m_factory = factory;
+        }
+
+        private void close() {
+            try {
+                m_factory.close(m_client);
+            } catch (final Exception e) {
+                LOGGER.debug("Could not close pooled client: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Compares connection informations by their equality, which for {@link CloudConnectionInformation} includes all
+     * settings that determine the created client. Secrets are thereby part of the key, so changed credentials result
+     * in a new client, but are not exposed by {@link #toString()}.
+     */
+    private static final class Key {
+
+        private final Class<?> m_type;
+
+        private final ConnectionInformation m_connectionInformation;
+
+        private Key(final ConnectionInformation connectionInformation, final Class<?> type) {
+            m_type = type;
+            m_connectionInformation = connectionInformation;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key)obj;
+            return m_type.equals(other.m_type) && m_connectionInformation.equals(other.m_connectionInformation);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * m_type.hashCode() + m_connectionInformation.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            final String identity = m_connectionInformation instanceof CloudConnectionInformation
+                ? ((CloudConnectionInformation)m_connectionInformation).getIdentity()
+                : (m_connectionInformation.getProtocol() + "://" + m_connectionInformation.getUser() + "@"
+                    + m_connectionInformation.getHost() + ":" + m_connectionInformation.getPort());
+            return identity + " (" + m_type.getSimpleName() + ")";
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH): created
+ */
+package org.knime.cloud.core.file;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.knime.core.node.util.CheckUtils;
+
+/**
+ * Limits the number of concurrent remote calls of a connection and adapts the limit to the provider's feedback
+ * (additive increase, multiplicative decrease). Every throttled call halves the limit, at most once per round of
+ * calls that were issued under the same limit, while every successful call raises it by the reciprocal of the
+ * current limit, i.e. by about one per round. Waiting callers block on a {@link ReentrantLock}, which does not pin
+ * the carrier of a virtual thread.
+ *
+ * @author KNIME GmbH
+ */
+public final class CloudConcurrencyLimiter {
+
+    /** The default maximum number of concurrent remote calls of a connection. */
+    public static final int DEFAULT_MAX_CONCURRENCY = Integer.getInteger("knime.cloud.maxconcurrency", 64);
+
+    private final int m_maxLimit;
+
+    private final ReentrantLock m_lock = new ReentrantLock();
+
+    private final Condition m_released = m_lock.newCondition();
+
+    private double m_limit;
+
+    private int m_inFlight = 0;
+
+    private long m_epoch = 0;
+
+    private long m_decreaseCount = 0;
+
+    /**
+     * Constructor.
+     *
+     * @param maxLimit the maximum number of concurrent calls, which is also the initial limit
+     */
+    public CloudConcurrencyLimiter(final int maxLimit) {
+        CheckUtils.checkArgument(maxLimit >= 1, "The maximum concurrency must be at least 1.");
+        m_maxLimit = maxLimit;
+        m_limit = maxLimit;
+    }
+
+    /**
+     * @return the maximum number of concurrent calls
+     */
+    public int getMaxLimit() {
+        return m_maxLimit;
+    }
+
+    /**
+     * @return the current number of allowed concurrent calls
+     */
+    public int getLimit() {
+        m_lock.lock();
+        try {
+            return (int)m_limit;
+        } finally {
+            m_lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of calls currently in flight
+     */
+    public int getInFlight() {
+        m_lock.lock();
+        try {
+            return m_inFlight;
+        } finally {
+            m_lock.unlock();
+        }
+    }
+
+    /**
+     * @return how often the limit was decreased due to throttling
+     */
+    public long getDecreaseCount() {
+        m_lock.lock();
+        try {
+            return m_decreaseCount;
+        } finally {
+            m_lock.unlock();
+        }
+    }
+
+    /**
+     * Blocks until the current limit allows another call.
+     *
+     * @return a ticket that must be passed to {@link #release(long, boolean)}
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    long acquire() throws InterruptedException {
+        m_lock.lockInterruptibly();
+        try {
+            while (m_inFlight >= (int)m_limit) {
+                m_released.await();
+            }
+            m_inFlight++;
+            return m_epoch;
+        } finally {
+            m_lock.unlock();
+        }
+    }
+
+    /**
+     * Releases a call and adapts the limit.
+     *
+     * @param ticket the ticket returned by {@link #acquire()}
+     * @param throttled whether the provider throttled the call
+     */
+    void release(final long ticket, final boolean throttled) {
+        m_lock.lock();
+        try {
+            m_inFlight--;
+            if (throttled) {
+                // calls issued before the last decrease do not reflect the current limit
+                if (ticket == m_epoch) {
+                    m_limit = Math.max(1, m_limit / 2);
+                    m_epoch++;
+                    m_decreaseCount++;
+                }
+            } else if (m_limit < m_maxLimit) {
+                m_limit = Math.min(m_maxLimit, m_limit + 1 / m_limit);
+            }
+            m_released.signalAll();
+        } finally {
+            m_lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        m_lock.lock();
+        try {
+            return (int)m_limit + " of " + m_maxLimit + " concurrent calls, " + m_inFlight + " in flight";
+        } finally {
+            m_lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH): created
+ */
+package org.knime.cloud.core.file;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+import org.knime.base.filehandling.remote.connectioninformation.port.ConnectionInformation;
+import org.knime.base.filehandling.remote.files.Connection;
+import org.knime.core.node.util.CheckUtils;
+
+/**
+ * State that is shared by all {@link CloudRemoteFile}s using the same {@link Connection}. A context lives as long as
+ * its connection is referenced and must therefore never hold a reference to the connection itself.
+ *
+ * @author KNIME GmbH
+ */
+public final class CloudConnectionContext {
+
+    /** The default number of remote calls a single operation may issue concurrently. */
+    public static final int DEFAULT_PARALLELISM = Integer.getInteger("knime.cloud.parallelism", 1);
+
+    /** The default number of asynchronous accessor calls of a connection that are executed concurrently. */
+    public static final int DEFAULT_ASYNC_PARALLELISM = Integer.getInteger("knime.cloud.asyncparallelism", 32);
+
+    /** The default verification of deletes. */
+    public static final CloudDeleteVerification DEFAULT_DELETE_VERIFICATION = CloudDeleteVerification
+        .fromName(System.getProperty("knime.cloud.deleteverification"), CloudDeleteVerification.STRONG);
+
+    private static final Map<Connection, CloudConnectionContext> CONTEXTS =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final CloudMetadataCache m_metadataCache = new CloudMetadataCache();
+
+    private final CloudContainerRegistry m_containerRegistry = new CloudContainerRegistry();
+
+    private final CloudDirectoryRegistry m_directoryRegistry = new CloudDirectoryRegistry();
+
+    private final CloudRemoteCallMetrics m_metrics = new CloudRemoteCallMetrics();
+
+    private int m_parallelism = DEFAULT_PARALLELISM;
+
+    private CloudIOExecutor m_executor = null;
+
+    private CloudIOExecutor m_asyncExecutor = null;
+
+    private final CloudConcurrencyLimiter m_concurrencyLimiter =
+        new CloudConcurrencyLimiter(CloudConcurrencyLimiter.DEFAULT_MAX_CONCURRENCY);
+
+    private volatile CloudDeleteVerification m_deleteVerification = DEFAULT_DELETE_VERIFICATION;
+
+    private volatile CloudRetryPolicy m_retryPolicy = CloudRetryPolicy.createDefault();
+
+    /** The limiter of the connection's identity, <code>null</code> until it is resolved. */
+    private volatile Optional<CloudRequestRateLimiter> m_requestRateLimiter = null;
+
+    private CloudConnectionContext() {
+    }
+
+    /**
+     * Returns the context of the given connection, creating it if necessary.
+     *
+     * @param connection the connection
+     * @return the context shared by all files using the connection
+     */
+    public static CloudConnectionContext of(final Connection connection) {
+        return CONTEXTS.computeIfAbsent(connection, c -> new CloudConnectionContext());
+    }
+
+    /**
+     * @return the cache for blob metadata of this connection
+     */
+    public CloudMetadataCache getMetadataCache() {
+        return m_metadataCache;
+    }
+
+    /**
+     * @return the registry of the containers of this connection
+     */
+    public CloudContainerRegistry getContainerRegistry() {
+        return m_containerRegistry;
+    }
+
+    /**
+     * @return the registry of the directories of this connection
+     */
+    public CloudDirectoryRegistry getDirectoryRegistry() {
+        return m_directoryRegistry;
+    }
+
+    /**
+     * @return the metrics of the remote calls issued via this connection
+     */
+    public CloudRemoteCallMetrics getMetrics() {
+        return m_metrics;
+    }
+
+    /**
+     * @return the limiter of the concurrent remote calls of this connection
+     */
+    public CloudConcurrencyLimiter getConcurrencyLimiter() {
+        return m_concurrencyLimiter;
+    }
+
+    /**
+     * Returns the limiter of the requests of this connection's identity, see
+     * {@link CloudRequestRateLimiter#of(ConnectionInformation)}. The limiter is resolved on the first call, since
+     * the connection information of a connection does not change.
+     *
+     * @param connectionInformation the connection information of this connection
+     * @return the limiter or <code>null</code> if the requests are not limited
+     */
+    public CloudRequestRateLimiter getRequestRateLimiter(final ConnectionInformation connectionInformation) {
+        Optional<CloudRequestRateLimiter> limiter = m_requestRateLimiter;
+        if (limiter == null) {
+            // resolving it twice in a race is harmless, both calls return the limiter of the same identity
+            limiter = Optional.ofNullable(CloudRequestRateLimiter.of(connectionInformation));
+            m_requestRateLimiter = limiter;
+        }
+        return limiter.orElse(null);
+    }
+
+    /**
+     * @return the policy for retrying failed remote calls of this connection
+     */
+    public CloudRetryPolicy getRetryPolicy() {
+        return m_retryPolicy;
+    }
+
+    /**
+     * Sets the policy for retrying failed remote calls of this connection.
+     *
+     * @param retryPolicy the policy to use
+     */
+    public void setRetryPolicy(final CloudRetryPolicy retryPolicy) {
+        m_retryPolicy = CheckUtils.checkArgumentNotNull(retryPolicy);
+    }
+
+    /**
+     * @return how deletes of files of this connection are verified
+     */
+    public CloudDeleteVerification getDeleteVerification() {
+        return m_deleteVerification;
+    }
+
+    /**
+     * Sets how deletes of files of this connection are verified.
+     *
+     * @param deleteVerification the verification to use
+     */
+    public void setDeleteVerification(final CloudDeleteVerification deleteVerification) {
+        m_deleteVerification = CheckUtils.checkArgumentNotNull(deleteVerification);
+    }
+
+    /**
+     * Returns the number of remote calls a single operation, e.g. the aggregation of a directory's size, may issue
+     * concurrently. A value of 1 means that operations are executed sequentially on the calling thread.
+     *
+     * @return the parallelism of this connection
+     */
+    public synchronized int getParallelism() {
+        return m_parallelism;
+    }
+
+    /**
+     * Sets the number of remote calls a single operation may issue concurrently. Providers that are subject to
+     * throttling should keep this value low.
+     *
+     * @param parallelism the parallelism of this connection, must be at least 1
+     */
+    public synchronized void setParallelism(final int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism must be at least 1.");
+        }
+        if (parallelism != m_parallelism) {
+            if (m_executor != null) {
+                m_executor.shutdown();
+                m_executor = null;
+            }
+        }
+        m_parallelism = parallelism;
+    }
+
+    /**
+     * Returns the executor for the remote calls an operation, e.g. a recursive delete, issues concurrently.
+     *
+     * @return the executor for remote calls, bounded by the parallelism of this connection
+     */
+    public synchronized CloudIOExecutor getExecutor() {
+        if (m_executor == null) {
+            m_executor = CloudIOExecutor.create(m_parallelism, "KNIME-Cloud-IO-");
+        }
+        return m_executor;
+    }
+
+    /**
+     * @return the executor for asynchronous accessor calls, bounded by {@link #DEFAULT_ASYNC_PARALLELISM}
+     */
+    public synchronized CloudIOExecutor getAsyncExecutor() {
+        if (m_asyncExecutor == null) {
+            m_asyncExecutor = CloudIOExecutor.create(DEFAULT_ASYNC_PARALLELISM, "KNIME-Cloud-Async-IO-");
+        }
+        return m_asyncExecutor;
+    }
+}
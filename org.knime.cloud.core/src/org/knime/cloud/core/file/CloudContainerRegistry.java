@@ -0,0 +1,108 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH): created
+ */
+package org.knime.cloud.core.file;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which containers exist for the lifetime of a connection. The registry is populated by listings of the
+ * root level, existence checks and the creation of containers via {@link CloudRemoteFile}. Only the existence of
+ * containers is remembered, since containers can be created through channels the registry does not see.
+ *
+ * @author KNIME GmbH
+ */
+public final class CloudContainerRegistry {
+
+    private final Set<String> m_containers = ConcurrentHashMap.newKeySet();
+
+    CloudContainerRegistry() {
+    }
+
+    /**
+     * Returns whether the given container is known to exist.
+     *
+     * @param containerName the name of the container
+     * @return {@link Boolean#TRUE} if the container is known to exist, or <code>null</code> if this is not known
+     */
+    public Boolean exists(final String containerName) {
+        return m_containers.contains(containerName) ? Boolean.TRUE : null;
+    }
+
+    /**
+     * Records whether the given container exists. A container that does not exist is forgotten, so that its
+     * existence is checked again the next time.
+     *
+     * @param containerName the name of the container
+     * @param exists whether the container exists
+     */
+    public void setExists(final String containerName, final boolean exists) {
+        if (exists) {
+            m_containers.add(containerName);
+        } else {
+            m_containers.remove(containerName);
+        }
+    }
+
+    /**
+     * Forgets whether the given container exists.
+     *
+     * @param containerName the name of the container
+     */
+    public void invalidate(final String containerName) {
+        m_containers.remove(containerName);
+    }
+
+    /**
+     * Forgets all containers.
+     */
+    public void clear() {
+        m_containers.clear();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH): created
+ */
+package org.knime.cloud.core.file;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The result of a batched delete of many blobs and the directory containing them.
+ *
+ * @author KNIME GmbH
+ */
+public final class CloudDeleteResult {
+
+    private long m_deletedCount = 0;
+
+    private final Map<String, Exception> m_failures = new LinkedHashMap<>();
+
+    CloudDeleteResult() {
+    }
+
+    synchronized void addBatch(final int batchSize, final Map<String, Exception> failures) {
+        m_deletedCount += batchSize - failures.size();
+        m_failures.putAll(failures);
+    }
+
+    synchronized void addFailure(final String blobName, final Exception cause) {
+        m_failures.put(blobName, cause);
+    }
+
+    /**
+     * @return the number of blobs that were deleted
+     */
+    public synchronized long getDeletedCount() {
+        return m_deletedCount;
+    }
+
+    /**
+     * @return the names of the blobs, or the directory, that could not be deleted, mapped to the cause of the failure
+     */
+    public synchronized Map<String, Exception> getFailures() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(m_failures));
+    }
+
+    /**
+     * @return <code>true</code> if all blobs and the directory were deleted
+     */
+    public synchronized boolean isSuccessful() {
+        return m_failures.isEmpty();
+    }
+}
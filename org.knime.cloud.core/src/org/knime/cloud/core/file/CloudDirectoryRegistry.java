@@ -0,0 +1,135 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH): created
+ */
+package org.knime.cloud.core.file;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Remembers which directories exist for the lifetime of a connection, so that {@link CloudRemoteFile#mkDirs()} does
+ * not check or create them again. The registry is populated by the creation of directories via
+ * {@link CloudRemoteFile} and invalidated by their deletion. Once the registry is full, the least recently used
+ * directories are forgotten.
+ *
+ * @author KNIME GmbH
+ */
+public final class CloudDirectoryRegistry {
+
+    /** The default maximum number of remembered directories. */
+    public static final int DEFAULT_MAXIMUM_SIZE = Integer.getInteger("knime.cloud.directoryregistry.size", 10000);
+
+    private final Map<String, Boolean> m_directories = new LinkedHashMap<String, Boolean>(16, 0.75f, true) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, Boolean> eldest) {
+            return size() > DEFAULT_MAXIMUM_SIZE;
+        }
+    };
+
+    CloudDirectoryRegistry() {
+    }
+
+    private static String key(final String containerName, final String directoryName) {
+        return containerName + CloudRemoteFile.DELIMITER + directoryName;
+    }
+
+    /**
+     * Returns whether the given directory is known to exist.
+     *
+     * @param containerName the name of the container
+     * @param directoryName the name of the directory, ending with a delimiter
+     * @return <code>true</code> if the directory is known to exist
+     */
+    public synchronized boolean exists(final String containerName, final String directoryName) {
+        // unlike containsKey(), get() marks the directory as recently used
+        return m_directories.get(key(containerName, directoryName)) != null;
+    }
+
+    /**
+     * Records that the given directory exists.
+     *
+     * @param containerName the name of the container
+     * @param directoryName the name of the directory, ending with a delimiter
+     */
+    public synchronized void setExists(final String containerName, final String directoryName) {
+        m_directories.put(key(containerName, directoryName), Boolean.TRUE);
+    }
+
+    /**
+     * Forgets all directories of a container starting with the given prefix.
+     *
+     * @param containerName the name of the container
+     * @param prefix the prefix of the directory names, or <code>null</code> to forget all directories of the container
+     */
+    public synchronized void invalidateAll(final String containerName, final String prefix) {
+        final String keyPrefix = key(containerName, prefix == null ? "" : prefix);
+        for (final Iterator<String> it = m_directories.keySet().iterator(); it.hasNext();) {
+            if (it.next().startsWith(keyPrefix)) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Forgets all directories.
+     */
+    public synchronized void clear() {
+        m_directories.clear();
+    }
+
+    /**
+     * @return the number of remembered directories
+     */
+    public synchronized int size() {
+        return m_directories.size();
+    }
+}
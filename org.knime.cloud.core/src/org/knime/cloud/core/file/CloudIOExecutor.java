@@ -0,0 +1,194 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH): created
+ */
+package org.knime.cloud.core.file;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Executor for blocking remote calls, e.g. listings, existence checks, deletes and signing. If the runtime supports
+ * virtual threads (Java 21 and later), every task runs on its own virtual thread and the parallelism is enforced by
+ * a semaphore, so thousands of concurrent calls do not need thousands of OS threads. Otherwise tasks run on a pool
+ * of daemon platform threads of the size of the parallelism. Virtual threads can be disabled by setting the system
+ * property <code>knime.cloud.virtualthreads</code> to <code>false</code>.
+ *
+ * @author KNIME GmbH
+ */
+public final class CloudIOExecutor extends AbstractExecutorService {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(CloudIOExecutor.class);
+
+    /** The factory method of virtual thread executors, <code>null</code> if not available or disabled. */
+    private static final Method NEW_VIRTUAL_THREAD_EXECUTOR = findVirtualThreadExecutorFactory();
+
+    private final ExecutorService m_delegate;
+
+    private final Semaphore m_permits;
+
+    private final int m_parallelism;
+
+    private CloudIOExecutor(final ExecutorService delegate, final Semaphore permits, final int parallelism) {
+        m_delegate = delegate;
+        m_permits = permits;
+        m_parallelism = parallelism;
+    }
+
+    private static Method findVirtualThreadExecutorFactory() {
+        if (!Boolean.parseBoolean(System.getProperty("knime.cloud.virtualthreads", "true"))) {
+            return null;
+        }
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (final NoSuchMethodException e) {
+            LOGGER.debug("Virtual threads are not supported by this runtime, cloud I/O uses platform threads.");
+            return null;
+        }
+    }
+
+    /**
+     * Creates an executor that executes at most the given number of tasks concurrently.
+     *
+     * @param parallelism the maximum number of concurrently executed tasks, must be at least 1
+     * @param threadNamePrefix the prefix of the names of the platform threads
+     * @return the executor, using virtual threads if supported
+     */
+    public static CloudIOExecutor create(final int parallelism, final String threadNamePrefix) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism must be at least 1.");
+        }
+        if (NEW_VIRTUAL_THREAD_EXECUTOR != null) {
+            try {
+                return new CloudIOExecutor((ExecutorService)NEW_VIRTUAL_THREAD_EXECUTOR.invoke(null),
+                    new Semaphore(parallelism), parallelism);
+            } catch (final ReflectiveOperationException | RuntimeException e) {
+                LOGGER.debug("Could not create virtual thread executor, using platform threads: " + e.getMessage(), e);
+            }
+        }
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(parallelism, parallelism, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), r -> {
+                final Thread thread = new Thread(r, threadNamePrefix + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        executor.allowCoreThreadTimeOut(true);
+        return new CloudIOExecutor(executor, null, parallelism);
+    }
+
+    /**
+     * @return whether tasks run on virtual threads
+     */
+    public boolean isVirtual() {
+        return m_permits != null;
+    }
+
+    /**
+     * @return the maximum number of concurrently executed tasks
+     */
+    public int getParallelism() {
+        return m_parallelism;
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        if (m_permits == null) {
+            m_delegate.execute(command);
+            return;
+        }
+        m_delegate.execute(() -> {
+            // blocking a virtual thread is cheap, and skipping the task would leave its future incomplete
+            m_permits.acquireUninterruptibly();
+            try {
+                command.run();
+            } finally {
+                m_permits.release();
+            }
+        });
+    }
+
+    @Override
+    public void shutdown() {
+        m_delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return m_delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return m_delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return m_delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return m_delegate.awaitTermination(timeout, unit);
+    }
+
+    @Override
+    public String toString() {
+        return (isVirtual() ? "virtual" : "platform") + " thread executor with parallelism " + m_parallelism;
+    }
+}
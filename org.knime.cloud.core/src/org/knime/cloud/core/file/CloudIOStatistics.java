@@ -0,0 +1,153 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH): created
+ */
+package org.knime.cloud.core.file;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.knime.base.filehandling.remote.files.ConnectionMonitor;
+
+/**
+ * Summary of the remote I/O of all {@link CloudRemoteFile}s that use a certain {@link ConnectionMonitor}. Since nodes
+ * usually create a connection monitor per execution, this allows a node to report the remote I/O it caused, e.g. as
+ * flow variables. Statistics are only collected for monitors that were registered via
+ * {@link #record(ConnectionMonitor)}.
+ *
+ * @author KNIME GmbH
+ */
+public final class CloudIOStatistics {
+
+    private static final Map<ConnectionMonitor<?>, CloudIOStatistics> STATISTICS =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final CloudRemoteCallMetrics m_calls = new CloudRemoteCallMetrics();
+
+    private final LongAdder m_listedEntries = new LongAdder();
+
+    private final LongAdder m_listedBytes = new LongAdder();
+
+    private final LongAdder m_cacheHits = new LongAdder();
+
+    private final LongAdder m_cacheMisses = new LongAdder();
+
+    private CloudIOStatistics() {
+    }
+
+    /**
+     * Starts collecting statistics for all files using the given monitor.
+     *
+     * @param monitor the connection monitor
+     * @return the statistics of the monitor
+     */
+    public static CloudIOStatistics record(final ConnectionMonitor<?> monitor) {
+        return STATISTICS.computeIfAbsent(monitor, m -> new CloudIOStatistics());
+    }
+
+    /**
+     * Returns the statistics of the given monitor.
+     *
+     * @param monitor the connection monitor
+     * @return the statistics of the monitor, or <code>null</code> if no statistics are collected for it
+     */
+    static CloudIOStatistics get(final ConnectionMonitor<?> monitor) {
+        return monitor == null ? null : STATISTICS.get(monitor);
+    }
+
+    void recordListing(final long entries, final long bytes) {
+        m_listedEntries.add(entries);
+        m_listedBytes.add(bytes);
+    }
+
+    void recordCacheLookup(final boolean hit) {
+        if (hit) {
+            m_cacheHits.increment();
+        } else {
+            m_cacheMisses.increment();
+        }
+    }
+
+    /**
+     * @return the metrics of the remote calls
+     */
+    public CloudRemoteCallMetrics getCalls() {
+        return m_calls;
+    }
+
+    /**
+     * @return the number of entries returned by listings
+     */
+    public long getListedEntries() {
+        return m_listedEntries.sum();
+    }
+
+    /**
+     * @return the total size in byte of the blobs returned by listings
+     */
+    public long getListedBytes() {
+        return m_listedBytes.sum();
+    }
+
+    /**
+     * @return the number of lookups in an enabled metadata cache
+     */
+    public long getCacheLookupCount() {
+        return m_cacheHits.sum() + m_cacheMisses.sum();
+    }
+
+    /**
+     * @return the ratio of metadata lookups that were answered from the cache, or 0 if there were none
+     */
+    public double getCacheHitRatio() {
+        final long hits = m_cacheHits.sum();
+        final long total = hits + m_cacheMisses.sum();
+        return total == 0 ? 0 : ((double)hits / total);
+    }
+}
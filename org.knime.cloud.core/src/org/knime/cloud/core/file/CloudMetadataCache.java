@@ -0,0 +1,312 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH): created
+ */
+package org.knime.cloud.core.file;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache with a time to live for the metadata (existence, size and last modification time) of the blobs
+ * accessed via one connection. Entries are keyed by container and blob name and are evicted in least recently used
+ * order once the maximum size is reached. Only positive existence results are cached, since a blob might be created by
+ * means the cache does not know about. The cache is disabled by default, since implementations of
+ * {@link CloudRemoteFile} that do not invalidate it after writing a blob would otherwise serve the previous size and
+ * modification time to the other files of the connection until the entry expires.
+ *
+ * @author KNIME GmbH
+ */
+public final class CloudMetadataCache {
+
+    /** The default time to live of an entry in milliseconds, a value of 0 disables the cache. */
+    public static final long DEFAULT_TIME_TO_LIVE = Long.getLong("knime.cloud.metadatacache.ttl", 0L);
+
+    /** The default maximum number of entries. */
+    public static final int DEFAULT_MAXIMUM_SIZE = Integer.getInteger("knime.cloud.metadatacache.size", 10000);
+
+    private final LinkedHashMap<String, Entry> m_entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final LongAdder m_hits = new LongAdder();
+
+    private final LongAdder m_misses = new LongAdder();
+
+    private long m_timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_TIME_TO_LIVE);
+
+    private int m_maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+    CloudMetadataCache() {
+    }
+
+    /**
+     * Returns the cached existence of the given blob.
+     *
+     * @param containerName the name of the container
+     * @param blobName the name of the blob or <code>null</code> for the container itself
+     * @return <code>true</code> if the blob is known to exist, <code>null</code> if nothing is cached
+     */
+    public synchronized Boolean getExists(final String containerName, final String blobName) {
+        final Entry entry = lookup(containerName, blobName);
+        return count(entry == null ? null : entry.m_exists);
+    }
+
+    /**
+     * Returns the cached size of the given blob.
+     *
+     * @param containerName the name of the container
+     * @param blobName the name of the blob
+     * @return the size of the blob or <code>null</code> if nothing is cached
+     */
+    public synchronized Long getSize(final String containerName, final String blobName) {
+        final Entry entry = lookup(containerName, blobName);
+        return count(entry == null ? null : entry.m_size);
+    }
+
+    /**
+     * Returns the cached last modification time of the given blob.
+     *
+     * @param containerName the name of the container
+     * @param blobName the name of the blob
+     * @return the last modification time of the blob or <code>null</code> if nothing is cached
+     */
+    public synchronized Long getLastModified(final String containerName, final String blobName) {
+        final Entry entry = lookup(containerName, blobName);
+        return count(entry == null ? null : entry.m_lastModified);
+    }
+
+    /**
+     * Caches the existence of the given blob. Negative results are not cached.
+     *
+     * @param containerName the name of the container
+     * @param blobName the name of the blob or <code>null</code> for the container itself
+     * @param exists whether the blob exists
+     */
+    public synchronized void putExists(final String containerName, final String blobName, final boolean exists) {
+        if (exists) {
+            update(containerName, blobName).m_exists = Boolean.TRUE;
+        } else {
+            invalidate(containerName, blobName);
+        }
+    }
+
+    /**
+     * Caches the size of the given blob, which implies that it exists.
+     *
+     * @param containerName the name of the container
+     * @param blobName the name of the blob
+     * @param size the size of the blob
+     */
+    public synchronized void putSize(final String containerName, final String blobName, final long size) {
+        final Entry entry = update(containerName, blobName);
+        entry.m_exists = Boolean.TRUE;
+        entry.m_size = size;
+    }
+
+    /**
+     * Caches the last modification time of the given blob, which implies that it exists.
+     *
+     * @param containerName the name of the container
+     * @param blobName the name of the blob
+     * @param lastModified the last modification time of the blob
+     */
+    public synchronized void putLastModified(final String containerName, final String blobName,
+        final long lastModified) {
+        final Entry entry = update(containerName, blobName);
+        entry.m_exists = Boolean.TRUE;
+        entry.m_lastModified = lastModified;
+    }
+
+    /**
+     * Removes the entry of the given blob.
+     *
+     * @param containerName the name of the container
+     * @param blobName the name of the blob or <code>null</code> for the container itself
+     */
+    public synchronized void invalidate(final String containerName, final String blobName) {
+        m_entries.remove(createKey(containerName, blobName));
+    }
+
+    /**
+     * Removes the entries of all blobs whose name starts with the given prefix.
+     *
+     * @param containerName the name of the container
+     * @param prefix the blob name prefix or <code>null</code> to remove all entries of the container
+     */
+    public synchronized void invalidateAll(final String containerName, final String prefix) {
+        final String keyPrefix = createKey(containerName, prefix);
+        m_entries.keySet().removeIf(k -> k.startsWith(keyPrefix));
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public synchronized void clear() {
+        m_entries.clear();
+    }
+
+    /**
+     * Sets the time to live of the entries.
+     *
+     * @param timeToLive the time to live in milliseconds, a value of 0 disables the cache
+     */
+    public synchronized void setTimeToLive(final long timeToLive) {
+        m_timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, timeToLive));
+        if (m_timeToLiveNanos == 0) {
+            m_entries.clear();
+        }
+    }
+
+    /**
+     * Sets the maximum number of entries.
+     *
+     * @param maximumSize the maximum number of entries
+     */
+    public synchronized void setMaximumSize(final int maximumSize) {
+        m_maximumSize = Math.max(0, maximumSize);
+        evict();
+    }
+
+    /**
+     * @return whether the cache holds entries at all, i.e. whether its time to live and maximum size are positive
+     */
+    public synchronized boolean isEnabled() {
+        return m_timeToLiveNanos > 0 && m_maximumSize > 0;
+    }
+
+    /**
+     * @return the number of entries currently held
+     */
+    public synchronized int size() {
+        return m_entries.size();
+    }
+
+    /**
+     * @return the number of lookups that were answered from the cache while it was enabled
+     */
+    public long getHitCount() {
+        return m_hits.sum();
+    }
+
+    /**
+     * @return the number of lookups that were not answered from the cache while it was enabled
+     */
+    public long getMissCount() {
+        return m_misses.sum();
+    }
+
+    private <T> T count(final T value) {
+        if (!isEnabled()) {
+            // a disabled cache is not consulted, hence there is nothing to count
+            return value;
+        }
+        if (value == null) {
+            m_misses.increment();
+        } else {
+            m_hits.increment();
+        }
+        return value;
+    }
+
+    private synchronized Entry lookup(final String containerName, final String blobName) {
+        final String key = createKey(containerName, blobName);
+        final Entry entry = m_entries.get(key);
+        if (entry != null && entry.isExpired(System.nanoTime(), m_timeToLiveNanos)) {
+            m_entries.remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    private synchronized Entry update(final String containerName, final String blobName) {
+        final String key = createKey(containerName, blobName);
+        final long now = System.nanoTime();
+        Entry entry = m_entries.get(key);
+        if (entry == null || entry.isExpired(now, m_timeToLiveNanos)) {
+            entry = new Entry(now);
+            if (m_timeToLiveNanos > 0) {
+                m_entries.put(key, entry);
+                evict();
+            }
+        }
+        return entry;
+    }
+
+    private void evict() {
+        final Iterator<Map.Entry<String, Entry>> it = m_entries.entrySet().iterator();
+        while (m_entries.size() > m_maximumSize && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static String createKey(final String containerName, final String blobName) {
+        return blobName == null ? containerName + CloudRemoteFile.DELIMITER
+            : containerName + CloudRemoteFile.DELIMITER + blobName;
+    }
+
+    private static final class Entry {
+
+        private final long m_created;
+
+        private Boolean m_exists;
+
+        private Long m_size;
+
+        private Long m_lastModified;
+
+        private Entry(final long created) {
+            m_created = created;
+        }
+
+        private boolean isExpired(final long now, final long timeToLive) {
+            return now - m_created >= timeToLive;
+        }
+    }
+}
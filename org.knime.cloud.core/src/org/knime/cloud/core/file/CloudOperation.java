@@ -0,0 +1,119 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH): created
+ */
+package org.knime.cloud.core.file;
+
+/**
+ * The remote operations a {@link CloudRemoteFile} delegates to its provider.
+ *
+ * @author KNIME GmbH
+ */
+public enum CloudOperation {
+
+    /** Checks whether a container exists. */
+    CONTAINER_EXISTS(true),
+
+    /** Checks whether a blob exists. */
+    BLOB_EXISTS(true),
+
+    /** Lists the containers on root level. */
+    LIST_ROOT(true),
+
+    /** Lists the content of a directory. */
+    LIST_DIRECTORY(true),
+
+    /** Lists all blobs below a directory. */
+    LIST_RECURSIVE(true),
+
+    /** Retrieves the size of a blob. */
+    BLOB_SIZE(true),
+
+    /** Retrieves the last modification time of a blob. */
+    LAST_MODIFIED(true),
+
+    /** Deletes a container. */
+    DELETE_CONTAINER(false),
+
+    /** Deletes a directory. */
+    DELETE_DIRECTORY(false),
+
+    /** Deletes a blob. */
+    DELETE_BLOB(false),
+
+    /** Deletes a batch of blobs. */
+    DELETE_BLOBS(false),
+
+    /** Creates a container. */
+    CREATE_CONTAINER(false),
+
+    /** Creates a directory. */
+    CREATE_DIRECTORY(false),
+
+    /** Reads the content of a blob. */
+    READ(true),
+
+    /** Writes the content of a blob. */
+    WRITE(false);
+
+    private final boolean m_idempotent;
+
+    private CloudOperation(final boolean idempotent) {
+        m_idempotent = idempotent;
+    }
+
+    /**
+     * Returns whether the operation has no effect on the remote side, so that repeating it yields the same result.
+     * This is not the case for creates and deletes, which report a failure if they are repeated after they
+     * succeeded on the remote side.
+     *
+     * @return <code>true</code> if the operation may safely be repeated
+     */
+    public boolean isIdempotent() {
+        return m_idempotent;
+    }
+}
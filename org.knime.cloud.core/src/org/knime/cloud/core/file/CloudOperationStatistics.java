@@ -0,0 +1,177 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH): created
+ */
+package org.knime.cloud.core.file;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Snapshot of the statistics of the invocations of one {@link CloudOperation}.
+ *
+ * @author KNIME GmbH
+ */
+public final class CloudOperationStatistics {
+
+    private final CloudOperation m_operation;
+
+    private final long m_count;
+
+    private final long m_errorCount;
+
+    private final long m_retryCount;
+
+    private final long m_throttledCount;
+
+    private final long m_totalNanos;
+
+    private final long[] m_histogram;
+
+    CloudOperationStatistics(final CloudOperation operation, final long count, final long errorCount,
+        final long retryCount, final long throttledCount, final long totalNanos, final long[] histogram) {
+        m_operation = operation;
+        m_count = count;
+        m_errorCount = errorCount;
+        m_retryCount = retryCount;
+        m_throttledCount = throttledCount;
+        m_totalNanos = totalNanos;
+        m_histogram = histogram;
+    }
+
+    /**
+     * @return the operation
+     */
+    public CloudOperation getOperation() {
+        return m_operation;
+    }
+
+    /**
+     * @return the number of invocations
+     */
+    public long getCount() {
+        return m_count;
+    }
+
+    /**
+     * @return the number of invocations that failed
+     */
+    public long getErrorCount() {
+        return m_errorCount;
+    }
+
+    /**
+     * @return the number of failed invocations that were retried
+     */
+    public long getRetryCount() {
+        return m_retryCount;
+    }
+
+    /**
+     * @return the number of failed invocations that were retried because the provider throttled them
+     */
+    public long getThrottledCount() {
+        return m_throttledCount;
+    }
+
+    /**
+     * @return the total time spent in the invocations
+     */
+    public Duration getTotalTime() {
+        return Duration.ofNanos(m_totalNanos);
+    }
+
+    /**
+     * @return the mean latency of the invocations
+     */
+    public Duration getMeanLatency() {
+        return m_count == 0 ? Duration.ZERO : Duration.ofNanos(m_totalNanos / m_count);
+    }
+
+    /**
+     * Returns the latency histogram. Bucket <code>i</code> holds the number of invocations that took less than
+     * <code>2<sup>i</sup></code> microseconds but not less than the upper bound of bucket <code>i - 1</code>.
+     *
+     * @return the latency histogram
+     */
+    public long[] getHistogram() {
+        return m_histogram.clone();
+    }
+
+    /**
+     * Returns an estimate of the given latency percentile, i.e. the upper bound of the histogram bucket the
+     * percentile falls into.
+     *
+     * @param percentile the percentile between 0 and 100
+     * @return the estimated latency percentile
+     */
+    public Duration getLatencyPercentile(final double percentile) {
+        return getLatencyPercentile(m_histogram, percentile);
+    }
+
+    static Duration getLatencyPercentile(final long[] histogram, final double percentile) {
+        final long total = Arrays.stream(histogram).sum();
+        if (total == 0) {
+            return Duration.ZERO;
+        }
+        final double rank = Math.max(1, Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            seen += histogram[i];
+            if (seen >= rank) {
+                return Duration.ofNanos(1000L << i);
+            }
+        }
+        return Duration.ofNanos(1000L << (histogram.length - 1));
+    }
+
+    @Override
+    public String toString() {
+        return m_operation + ": " + m_count + " calls, " + m_errorCount + " errors, " + m_retryCount
+            + " retries, mean " + getMeanLatency().toMillis() + " ms";
+    }
+}
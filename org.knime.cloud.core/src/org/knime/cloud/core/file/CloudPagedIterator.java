@@ -0,0 +1,104 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH): created
+ */
+package org.knime.cloud.core.file;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * {@link CloudRemoteIterator} that fetches the pages of a paginated listing on demand, so that only one page is held
+ * in memory at a time.
+ *
+ * @author KNIME GmbH
+ * @param <T> the type of the listed elements
+ */
+public abstract class CloudPagedIterator<T> implements CloudRemoteIterator<T> {
+
+    private Iterator<T> m_page = null;
+
+    private String m_nextPageToken = null;
+
+    /**
+     * Fetches a page of the listing.
+     *
+     * @param pageToken the token returned with the previous page, or <code>null</code> for the first page
+     * @return the requested page
+     * @throws Exception if the page can not be fetched
+     */
+    protected abstract CloudListingPage<T> fetchPage(String pageToken) throws Exception;
+
+    /**
+     * Called for each page after it has been fetched. The default implementation does nothing.
+     *
+     * @param page the fetched page
+     * @throws Exception
+     */
+    protected void pageFetched(final CloudListingPage<T> page) throws Exception {
+        // nothing to do by default
+    }
+
+    @Override
+    public boolean hasNext() throws Exception {
+        while (m_page == null || (!m_page.hasNext() && m_nextPageToken != null)) {
+            final CloudListingPage<T> page = fetchPage(m_nextPageToken);
+            pageFetched(page);
+            m_page = page.getItems().iterator();
+            m_nextPageToken = page.getNextPageToken();
+        }
+        return m_page.hasNext();
+    }
+
+    @Override
+    public T next() throws Exception {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return m_page.next();
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH): created
+ */
+package org.knime.cloud.core.file;
+
+import java.util.Objects;
+
+import org.knime.core.node.InvalidSettingsException;
+
+/**
+ * Immutable, pre-parsed path of a file in a cloud storage with a virtual file system. A path has the form
+ * <code>/container/blob</code>, where the blob name may contain further delimiters. Paths ending with a delimiter,
+ * containers and the root denote directories.
+ *
+ * @author KNIME GmbH
+ */
+public final class CloudPath {
+
+    private static final char DELIMITER = '/';
+
+    /** The root path, which contains the containers. */
+    public static final CloudPath ROOT = new CloudPath("/", "", null);
+
+    private final String m_path;
+
+    private final String m_containerName;
+
+    private final String m_blobName;
+
+    private CloudPath(final String path, final String containerName, final String blobName) {
+        m_path = path;
+        m_containerName = containerName;
+        m_blobName = blobName;
+    }
+
+    /**
+     * Parses the given absolute path.
+     *
+     * @param path the path to parse, an empty path denotes the root
+     * @return the parsed path
+     * @throws InvalidSettingsException if the path does not begin with a delimiter
+     */
+    public static CloudPath parse(final String path) throws InvalidSettingsException {
+        if (path == null || path.isEmpty() || (path.length() == 1 && path.charAt(0) == DELIMITER)) {
+            return ROOT;
+        }
+        if (path.charAt(0) != DELIMITER) {
+            throw new InvalidSettingsException("Invalid path. Path must begin with /");
+        }
+        final int containerEnd = path.indexOf(DELIMITER, 1);
+        if (containerEnd < 0) {
+            return new CloudPath(path, path.substring(1), null);
+        } else if (containerEnd == path.length() - 1) {
+            return new CloudPath(path, path.substring(1, containerEnd), null);
+        } else {
+            return new CloudPath(path, path.substring(1, containerEnd), path.substring(containerEnd + 1));
+        }
+    }
+
+    /**
+     * Creates a path from its already resolved parts.
+     *
+     * @param path the full path
+     * @param containerName the name of the container
+     * @param blobName the name of the blob within the container, or <code>null</code> for a container
+     * @return the path
+     */
+    static CloudPath of(final String path, final String containerName, final String blobName) {
+        return new CloudPath(path, containerName, blobName);
+    }
+
+    /**
+     * @return the full path as given when parsing
+     */
+    public String getPath() {
+        return m_path;
+    }
+
+    /**
+     * @return the name of the container, which is empty for the root
+     */
+    public String getContainerName() {
+        return m_containerName;
+    }
+
+    /**
+     * @return the name of the blob within its container, or <code>null</code> for containers and the root
+     */
+    public String getBlobName() {
+        return m_blobName;
+    }
+
+    /**
+     * @return whether this is the root path
+     */
+    public boolean isRoot() {
+        return this == ROOT;
+    }
+
+    /**
+     * @return whether this path denotes a container
+     */
+    public boolean isContainer() {
+        return m_blobName == null && !isRoot();
+    }
+
+    /**
+     * @return whether this path denotes a directory, i.e. the root, a container or a path ending with a delimiter
+     */
+    public boolean isDirectory() {
+        return m_blobName == null || m_blobName.charAt(m_blobName.length() - 1) == DELIMITER;
+    }
+
+    /**
+     * Returns this path as directory, i.e. with a trailing delimiter.
+     *
+     * @return this path with a trailing delimiter
+     */
+    public CloudPath toDirectory() {
+        if (isRoot() || m_path.charAt(m_path.length() - 1) == DELIMITER) {
+            return this;
+        }
+        return new CloudPath(m_path + DELIMITER, m_containerName,
+            m_blobName == null ? null : (m_blobName + DELIMITER));
+    }
+
+    /**
+     * Returns the directory containing this path. The parent of a container and of the root is the root. The
+     * parent is derived by removing the last segment of the full path, so that it keeps the layout of this path even
+     * if its container path is not <code>/container/</code>.
+     *
+     * @return the parent directory
+     */
+    public CloudPath getParent() {
+        if (m_blobName == null) {
+            return ROOT;
+        }
+        final int end = isDirectory() ? m_blobName.length() - 2 : m_blobName.length() - 1;
+        final int idx = m_blobName.lastIndexOf(DELIMITER, end);
+        // the blob name is always the end of the full path
+        final int blobStart = m_path.length() - m_blobName.length();
+        if (idx < 0) {
+            return new CloudPath(m_path.substring(0, blobStart), m_containerName, null);
+        }
+        return new CloudPath(m_path.substring(0, blobStart + idx + 1), m_containerName,
+            m_blobName.substring(0, idx + 1));
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof CloudPath)) {
+            return false;
+        }
+        final CloudPath other = (CloudPath)obj;
+        return m_containerName.equals(other.m_containerName) && Objects.equals(m_blobName, other.m_blobName);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * m_containerName.hashCode() + Objects.hashCode(m_blobName);
+    }
+
+    @Override
+    public String toString() {
+        return m_path;
+    }
+}
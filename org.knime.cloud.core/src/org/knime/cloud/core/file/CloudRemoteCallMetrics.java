@@ -0,0 +1,218 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH): created
+ */
+package org.knime.cloud.core.file;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts and times the remote calls a {@link CloudRemoteFile} issues to its provider, aggregated per
+ * {@link CloudOperation}.
+ *
+ * @author KNIME GmbH
+ */
+public final class CloudRemoteCallMetrics {
+
+    /** The number of buckets of the latency histograms, covering latencies of up to about 18 minutes. */
+    static final int HISTOGRAM_BUCKETS = 31;
+
+    private final Map<CloudOperation, OperationMetrics> m_metrics = new EnumMap<>(CloudOperation.class);
+
+    /**
+     * Constructor.
+     */
+    public CloudRemoteCallMetrics() {
+        for (final CloudOperation operation : CloudOperation.values()) {
+            m_metrics.put(operation, new OperationMetrics());
+        }
+    }
+
+    /**
+     * Records an invocation of a remote operation.
+     *
+     * @param operation the invoked operation
+     * @param nanos the duration of the invocation in nanoseconds
+     * @param failed whether the invocation failed
+     */
+    public void record(final CloudOperation operation, final long nanos, final boolean failed) {
+        final OperationMetrics metrics = m_metrics.get(operation);
+        metrics.m_count.increment();
+        if (failed) {
+            metrics.m_errors.increment();
+        }
+        metrics.m_totalNanos.add(nanos);
+        metrics.m_histogram[bucket(nanos)].increment();
+    }
+
+    /**
+     * Records that a failed invocation of a remote operation is retried.
+     *
+     * @param operation the invoked operation
+     * @param throttled whether the provider throttled the failed invocation
+     */
+    public void recordRetry(final CloudOperation operation, final boolean throttled) {
+        final OperationMetrics metrics = m_metrics.get(operation);
+        metrics.m_retries.increment();
+        if (throttled) {
+            metrics.m_throttled.increment();
+        }
+    }
+
+    private static int bucket(final long nanos) {
+        final long micros = nanos / 1000;
+        // bucket i holds latencies in [2^(i-1), 2^i) microseconds
+        final int bucket = 64 - Long.numberOfLeadingZeros(micros);
+        return Math.min(bucket, HISTOGRAM_BUCKETS - 1);
+    }
+
+    /**
+     * Returns the statistics of the given operation.
+     *
+     * @param operation the operation
+     * @return a snapshot of the statistics of the operation
+     */
+    public CloudOperationStatistics getStatistics(final CloudOperation operation) {
+        final OperationMetrics metrics = m_metrics.get(operation);
+        final long[] histogram = new long[HISTOGRAM_BUCKETS];
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            histogram[i] = metrics.m_histogram[i].sum();
+        }
+        return new CloudOperationStatistics(operation, metrics.m_count.sum(), metrics.m_errors.sum(),
+            metrics.m_retries.sum(), metrics.m_throttled.sum(), metrics.m_totalNanos.sum(), histogram);
+    }
+
+    /**
+     * @return snapshots of the statistics of all operations that were invoked at least once
+     */
+    public Map<CloudOperation, CloudOperationStatistics> getStatistics() {
+        final Map<CloudOperation, CloudOperationStatistics> statistics = new EnumMap<>(CloudOperation.class);
+        for (final CloudOperation operation : CloudOperation.values()) {
+            if (m_metrics.get(operation).m_count.sum() > 0) {
+                statistics.put(operation, getStatistics(operation));
+            }
+        }
+        return statistics;
+    }
+
+    /**
+     * @return the total number of invocations of all operations
+     */
+    public long getTotalCount() {
+        return m_metrics.values().stream().mapToLong(m -> m.m_count.sum()).sum();
+    }
+
+    /**
+     * @return the total number of failed invocations of all operations
+     */
+    public long getTotalErrorCount() {
+        return m_metrics.values().stream().mapToLong(m -> m.m_errors.sum()).sum();
+    }
+
+    /**
+     * @return the total number of retries of all operations
+     */
+    public long getTotalRetryCount() {
+        return m_metrics.values().stream().mapToLong(m -> m.m_retries.sum()).sum();
+    }
+
+    /**
+     * Returns an estimate of the given latency percentile over the invocations of all operations.
+     *
+     * @param percentile the percentile between 0 and 100
+     * @return the estimated latency percentile
+     */
+    public Duration getLatencyPercentile(final double percentile) {
+        final long[] histogram = new long[HISTOGRAM_BUCKETS];
+        for (final OperationMetrics metrics : m_metrics.values()) {
+            for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+                histogram[i] += metrics.m_histogram[i].sum();
+            }
+        }
+        return CloudOperationStatistics.getLatencyPercentile(histogram, percentile);
+    }
+
+    /**
+     * Resets all statistics.
+     */
+    public void reset() {
+        for (final OperationMetrics metrics : m_metrics.values()) {
+            metrics.m_count.reset();
+            metrics.m_errors.reset();
+            metrics.m_retries.reset();
+            metrics.m_throttled.reset();
+            metrics.m_totalNanos.reset();
+            for (final LongAdder bucket : metrics.m_histogram) {
+                bucket.reset();
+            }
+        }
+    }
+
+    private static final class OperationMetrics {
+
+        private final LongAdder m_count = new LongAdder();
+
+        private final LongAdder m_errors = new LongAdder();
+
+        private final LongAdder m_retries = new LongAdder();
+
+        private final LongAdder m_throttled = new LongAdder();
+
+        private final LongAdder m_totalNanos = new LongAdder();
+
+        private final LongAdder[] m_histogram = new LongAdder[HISTOGRAM_BUCKETS];
+
+        private OperationMetrics() {
+            for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+                m_histogram[i] = new LongAdder();
+            }
+        }
+    }
+}
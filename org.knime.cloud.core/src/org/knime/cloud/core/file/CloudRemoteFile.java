@@ -48,9 +48,29 @@
  */
 package org.knime.cloud.core.file;
 
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
 
-import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.core.runtime.URIUtil;
 import org.knime.base.filehandling.remote.connectioninformation.port.ConnectionInformation;
@@ -71,16 +91,28 @@
 
 	private static final NodeLogger LOGGER = NodeLogger.getLogger(CloudRemoteFile.class);
 
+	/** Whether the current thread is within {@link #invoke(CloudOperation, Callable)}. */
+	private static final ThreadLocal<Boolean> IN_INVOCATION = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
 	protected static final String DELIMITER = "/";
 
 	protected String m_fullPath = null;
+	/** @deprecated kept in sync with the parsed path for subclasses, use {@link #getContainerName()} instead */
+	@Deprecated
 	protected String m_containerName = null;
+	/** @deprecated kept in sync with the parsed path for subclasses, use {@link #getBlobName()} instead */
+	@Deprecated
 	protected String m_blobName = null;
+	/** @deprecated kept in sync with the parsed path for subclasses, use {@link #isContainer()} instead */
+	@Deprecated
 	protected Boolean m_isContainer = null;
+	private CloudPath m_cloudPath = null;
 	protected Boolean m_exists = null;
 	protected Boolean m_isDir = null;
 	protected Long m_lastModified = null;
 	protected Long m_size = null;
+	/** Serializes the asynchronous accessors of this file without pinning the carrier of a virtual thread. */
+	private final ReentrantLock m_asyncLock = new ReentrantLock();
 
 	/**
 	 * @param uri
@@ -92,6 +124,25 @@ protected CloudRemoteFile(final URI uri, final ConnectionInformation connectionI
 		super(uri, connectionInformation, connectionMonitor);
 	}
 
+	/**
+	 * Creates a file that was returned by a listing. The file is known to exist and the size and last modification
+	 * time provided by the listing are used instead of retrieving them from the server again.
+	 * @param uri
+	 * @param connectionInformation
+	 * @param connectionMonitor
+	 * @param listingMetadata the metadata the listing returned for this blob/file, or <code>null</code> for
+	 *            directories and containers, for which only their existence is known
+	 */
+	protected CloudRemoteFile(final URI uri, final ConnectionInformation connectionInformation,
+			final ConnectionMonitor<C> connectionMonitor, final CloudBlobMetadata listingMetadata) {
+		this(uri, connectionInformation, connectionMonitor);
+		m_exists = true;
+		if (listingMetadata != null) {
+			m_size = listingMetadata.getSize();
+			m_lastModified = listingMetadata.getLastModified();
+		}
+	}
+
 	/**
 	 * Whether a container with the given name exists
 	 * @param containerName the name of the container that should be checked
@@ -123,6 +174,54 @@ protected CloudRemoteFile(final URI uri, final ConnectionInformation connectionI
 	 */
 	protected abstract CloudRemoteFile<C>[] listDirectoryFiles() throws Exception;
 
+	/**
+	 * Lists one page of the remote files on root level including containers. The default implementation returns the
+	 * result of {@link #listRootFiles()} as a single page, implementations should override this to fetch the
+	 * provider's pages on demand.
+	 * @param pageToken the token returned with the previous page, or <code>null</code> for the first page
+	 * @return A page of files in the given storage
+	 * @throws Exception
+	 */
+	protected CloudListingPage<CloudRemoteFile<C>> listRootFilesPage(final String pageToken) throws Exception {
+		return new CloudListingPage<>(Arrays.asList(listRootFiles()), null);
+	}
+
+	/**
+	 * Lists one page of the remote files in this {@link RemoteFile}'s directory. The default implementation returns
+	 * the result of {@link #listDirectoryFiles()} as a single page, implementations should override this to fetch
+	 * the provider's pages on demand.
+	 * @param pageToken the token returned with the previous page, or <code>null</code> for the first page
+	 * @return A page of files in this directory
+	 * @throws Exception
+	 */
+	protected CloudListingPage<CloudRemoteFile<C>> listDirectoryFilesPage(final String pageToken) throws Exception {
+		return new CloudListingPage<>(Arrays.asList(listDirectoryFiles()), null);
+	}
+
+	/**
+	 * Lists one page of the metadata of all blobs/files below this {@link RemoteFile}'s directory, including those
+	 * in sub directories, with a flat listing of all blobs sharing this directory's prefix. This is only called for
+	 * containers and directories, and only if {@link #supportsRecursiveListing()} returns <code>true</code>.
+	 * The default implementation throws an {@link UnsupportedOperationException}.
+	 * @param pageToken the token returned with the previous page, or <code>null</code> for the first page
+	 * @return A page of the metadata of the blobs/files below this directory
+	 * @throws Exception
+	 */
+	protected CloudListingPage<CloudBlobMetadata> listBlobMetadataRecursivePage(final String pageToken)
+			throws Exception {
+		throw new UnsupportedOperationException("Flat recursive listings are not supported");
+	}
+
+	/**
+	 * Whether {@link #listBlobMetadataRecursivePage(String)} is implemented by a flat listing of the provider. If so,
+	 * directory sizes and modification times are always computed from that listing, otherwise the directory tree is
+	 * traversed in parallel if the connection's parallelism allows it.
+	 * @return <code>true</code> if {@link #listBlobMetadataRecursivePage(String)} is implemented
+	 */
+	protected boolean supportsRecursiveListing() {
+		return false;
+	}
+
 	/**
 	 * Get this blob/file's size in byte
 	 * @return this blob/file's size
@@ -158,6 +257,49 @@ protected CloudRemoteFile(final URI uri, final ConnectionInformation connectionI
 	 */
 	protected abstract boolean deleteBlob() throws Exception;
 
+	/**
+	 * Deletes the given blobs/files of a container. Implementations should override this with the provider's
+	 * multi-object delete. The default implementation deletes the blobs one after the other.
+	 * @param containerName the name of the container in which the blobs/files reside
+	 * @param blobNames the names of the blobs/files to be deleted, at most {@link #getDeleteBatchSize()} many
+	 * @return the names of the blobs/files that could not be deleted, mapped to the cause of the failure
+	 * @throws Exception if the whole batch failed
+	 */
+	protected Map<String, Exception> deleteBlobs(final String containerName, final List<String> blobNames)
+			throws Exception {
+		final Map<String, Exception> failures = new LinkedHashMap<>();
+		for (final String blobName : blobNames) {
+			try {
+				final CloudRemoteFile<C> file = createCloudRemoteFile(containerName, blobName);
+				// the batch is invoked as a whole, hence the single deletes are neither counted nor retried again
+				if (!file.deleteBlob()) {
+					failures.put(blobName, new IOException("The file \"" + blobName + "\" could not be deleted"));
+				}
+			} catch (final Exception e) {
+				failures.put(blobName, e);
+			}
+		}
+		return failures;
+	}
+
+	/**
+	 * Returns the maximum number of blobs/files that are passed to one call of {@link #deleteBlobs(String, List)}
+	 * @return the maximum number of blobs/files per delete batch
+	 */
+	protected int getDeleteBatchSize() {
+		return 1000;
+	}
+
+	/**
+	 * Whether {@link #delete()} should delete directories via {@link #deleteRecursively()} instead of
+	 * {@link #deleteDirectory()}. Implementations that override {@link #deleteBlobs(String, List)} with a
+	 * multi-object delete should return <code>true</code>.
+	 * @return <code>true</code> if directories should be deleted in batches
+	 */
+	protected boolean supportsBatchDelete() {
+		return false;
+	}
+
 	/**
 	 * Creates a container with this RemoteFile's container name
 	 * @return true if the container is created
@@ -207,18 +349,23 @@ public boolean exists() throws Exception {
 				m_exists = true;
 			} else {
 				final String containerName = getContainerName();
-				final boolean containerExists = doesContainerExist(containerName);
-				if (!containerExists) {
-					m_exists = false;
-				} else if (isContainer()){
-					m_exists = true;
-				} else {
-					final String name = getBlobName();
-					if (doestBlobExist(containerName, name)) {
+				final String name = isContainer() ? null : getBlobName();
+				final CloudMetadataCache cache = getConnectionContext().getMetadataCache();
+				m_exists = recordCacheLookup(cache, cache.getExists(containerName, name));
+				if (m_exists == null) {
+					final boolean containerExists = containerExists(containerName);
+					if (!containerExists) {
+						m_exists = false;
+					} else if (name == null) {
 						m_exists = true;
 					} else {
-						m_exists = false;
+						if (invoke(CloudOperation.BLOB_EXISTS, () -> doestBlobExist(containerName, name))) {
+							m_exists = true;
+						} else {
+							m_exists = false;
+						}
 					}
+					cache.putExists(containerName, name, m_exists);
 				}
 			}
 		}
@@ -227,6 +374,22 @@ public boolean exists() throws Exception {
 	}
 
 
+	/**
+	 * Whether a container with the given name exists, consulting the connection's container registry first
+	 * @param containerName the name of the container that should be checked
+	 * @return <code>true</code> if the container exists, <code>false</code> otherwise
+	 * @throws Exception
+	 */
+	private boolean containerExists(final String containerName) throws Exception {
+		final CloudContainerRegistry registry = getConnectionContext().getContainerRegistry();
+		Boolean exists = registry.exists(containerName);
+		if (exists == null) {
+			exists = invoke(CloudOperation.CONTAINER_EXISTS, () -> doesContainerExist(containerName));
+			registry.setExists(containerName, exists);
+		}
+		return exists;
+	}
+
 	/**
 	 * Returns this files blob name
 	 *
@@ -234,17 +397,12 @@ public boolean exists() throws Exception {
 	 * @throws Exception if something is wrong with the client configuration
 	 */
 	public String getBlobName() throws Exception {
-		if (m_blobName == null) {
-			final String containerName = getContainerName();
-			if (!isContainer()) {
-				m_blobName = getFullPath().substring(createContainerPath(containerName).length());
-			}
-		}
-		return m_blobName;
+		return getCloudPath().getBlobName();
 	}
 
 	/**
-	 * Creates the container path from a given container name
+	 * Creates the container path from a given container name. Implementations overriding this also determine how
+	 * the paths of their files are split into container and blob name, see {@link #getCloudPath()}.
 	 *
 	 * @param containerName the container's name
 	 * @return the container path
@@ -259,13 +417,7 @@ protected String createContainerPath(final String containerName) {
 	@Override
 	public boolean isDirectory() throws Exception {
 		if (m_isDir == null) {
-			final String path = getFullPath();
-
-			if (StringUtils.isBlank(path) || path.endsWith(DELIMITER) || isContainer()) {
-				m_isDir = true;
-			} else {
-				m_isDir = false;
-			}
+			m_isDir = getCloudPath().isDirectory();
 		}
 
 		return m_isDir;
@@ -276,33 +428,36 @@ public boolean isDirectory() throws Exception {
 	 */
 	@Override
 	public RemoteFile<C> getParent() throws Exception {
-		String path = getABSFullName();
-		if (path.endsWith("/")) {
-			path = path.substring(0, path.length() - 1);
-		}
-		path = FilenameUtils.getFullPath(path);
-		// Build URI
+		final CloudPath parentPath = getCloudPath().getParent();
 		final URI uri = new URI(getURI().getScheme(), getURI().getUserInfo(), getURI().getHost(), getURI().getPort(),
-				path, getURI().getQuery(), getURI().getFragment());
-		// Create remote file and open it
-		final RemoteFile<C> file = RemoteFileFactory.createRemoteFile(uri, getConnectionInformation(),
-				getConnectionMonitor());
-		file.open();
-		return file;
+				parentPath.getPath(), getURI().getQuery(), getURI().getFragment());
+		final CloudRemoteFile<C> parent = newInstance(uri);
+		if (parent == null) {
+			// Create remote file and open it
+			final RemoteFile<C> file = RemoteFileFactory.createRemoteFile(uri, getConnectionInformation(),
+					getConnectionMonitor());
+			file.open();
+			return file;
+		}
+		parent.setCloudPath(parent.applyContainerPath(parentPath));
+		parent.m_isDir = true;
+		if (parentPath.isRoot() || (parentPath.isContainer() && Boolean.TRUE.equals(m_exists))) {
+			parent.m_exists = true;
+		}
+		return parent;
 	}
 
 	/**
-	 * Returns the full name for the file in the amazon blob store
-	 * @return the full name for the file in the amazon blob store
-	 * @throws Exception If something is wrong with the client configuration
+	 * Creates a file of this type with the given URI that uses this file's connection information and connection
+	 * monitor, and thereby the same connection. Implementations should override this to invoke their constructor
+	 * directly, which avoids the lookup via {@link RemoteFileFactory} and opening the new file eagerly. The default
+	 * implementation returns <code>null</code>, in which case files are created via {@link RemoteFileFactory}.
+	 * @param uri the URI of the file
+	 * @return the new file, or <code>null</code> if {@link RemoteFileFactory} should be used
+	 * @throws Exception
 	 */
-	private String getABSFullName() throws Exception {
-		String fullname = getPath();
-		if (!isDirectory()) {
-			// Append name to path
-			fullname += getName();
-		}
-		return fullname;
+	protected CloudRemoteFile<C> newInstance(final URI uri) throws Exception {
+		return null;
 	}
 
 	/**
@@ -312,14 +467,16 @@ private String getABSFullName() throws Exception {
 	public long getSize() throws Exception {
 		if (m_size == null) {
 			if (exists()) {
-				m_size = 0l;
 				if (isDirectory()) {
-					for (final CloudRemoteFile<C> file : listFiles()) {
-						m_size += file.getSize();
-					}
+					aggregateDirectoryMetadata();
 				} else {
-					// blob reference must be retrieved from the server otherwise properties will return null
-					m_size = getBlobSize();
+					final CloudMetadataCache cache = getConnectionContext().getMetadataCache();
+					m_size = recordCacheLookup(cache, cache.getSize(getContainerName(), getBlobName()));
+					if (m_size == null) {
+						// blob reference must be retrieved from the server otherwise properties will return null
+						m_size = invoke(CloudOperation.BLOB_SIZE, this::getBlobSize);
+						cache.putSize(getContainerName(), getBlobName(), m_size);
+					}
 				}
 			} else {
 				m_size = 0l;
@@ -330,16 +487,67 @@ public long getSize() throws Exception {
 
 	@Override
 	public CloudRemoteFile<C>[] listFiles() throws Exception {
-		final CloudRemoteFile<C>[] files;
-
-		final String path =getFullPath();
-		if (StringUtils.isBlank(path) || path.equals(DELIMITER)	) {
-			files = listRootFiles();
-		} else {
-			files = listDirectoryFiles();
+		final List<CloudRemoteFile<C>> files = new ArrayList<>();
+		final CloudRemoteIterator<CloudRemoteFile<C>> it = listFilesIterator();
+		while (it.hasNext()) {
+			files.add(it.next());
 		}
 
-		return files;
+		@SuppressWarnings("unchecked")
+		final CloudRemoteFile<C>[] result = files.toArray(new CloudRemoteFile[files.size()]);
+		return result;
+	}
+
+	/**
+	 * Lists the files in this directory lazily, fetching the provider's pages only when they are needed
+	 * @return An iterator over the files in this directory
+	 * @throws Exception
+	 */
+	public CloudRemoteIterator<CloudRemoteFile<C>> listFilesIterator() throws Exception {
+		final String path = getFullPath();
+		final boolean isRoot = StringUtils.isBlank(path) || path.equals(DELIMITER);
+		return new CloudPagedIterator<CloudRemoteFile<C>>() {
+
+			@Override
+			protected CloudListingPage<CloudRemoteFile<C>> fetchPage(final String pageToken) throws Exception {
+				return isRoot ? invoke(CloudOperation.LIST_ROOT, () -> listRootFilesPage(pageToken))
+						: invoke(CloudOperation.LIST_DIRECTORY, () -> listDirectoryFilesPage(pageToken));
+			}
+
+			@Override
+			protected void pageFetched(final CloudListingPage<CloudRemoteFile<C>> page) throws Exception {
+				publishListingMetadata(page.getItems());
+			}
+		};
+	}
+
+	/**
+	 * Makes the metadata that was provided by a listing available to all files of this connection
+	 * @param files the listed files
+	 * @throws Exception
+	 */
+	private void publishListingMetadata(final List<CloudRemoteFile<C>> files) throws Exception {
+		final CloudIOStatistics statistics = CloudIOStatistics.get(getConnectionMonitor());
+		if (statistics != null) {
+			statistics.recordListing(files.size(),
+					files.stream().mapToLong(f -> f.m_size == null ? 0 : f.m_size.longValue()).sum());
+		}
+		final CloudMetadataCache cache = getConnectionContext().getMetadataCache();
+		final CloudContainerRegistry registry = getConnectionContext().getContainerRegistry();
+		for (final CloudRemoteFile<C> file : files) {
+			if (file.isContainer()) {
+				registry.setExists(file.getContainerName(), true);
+			} else if (Boolean.TRUE.equals(file.m_exists)) {
+				final String containerName = file.getContainerName();
+				final String blobName = file.getBlobName();
+				if (file.m_size != null && file.m_lastModified != null && !file.isDirectory()) {
+					cache.putSize(containerName, blobName, file.m_size);
+					cache.putLastModified(containerName, blobName, file.m_lastModified);
+				} else {
+					cache.putExists(containerName, blobName, true);
+				}
+			}
+		}
 	}
 
 	/**
@@ -349,17 +557,16 @@ public CloudRemoteFile<C>[] listFiles() throws Exception {
 	public long lastModified() throws Exception {
 		if (m_lastModified == null) {
 			if (exists()) {
-				m_lastModified = 0l;
 				if (isDirectory()) {
-					for (final CloudRemoteFile<C> file : listFiles()) {
-						final long lastModified = file.lastModified();
-						if (lastModified > m_lastModified) {
-							m_lastModified= file.lastModified();
-						}
-					}
+					aggregateDirectoryMetadata();
 				} else {
-					// Blob reference must be recieved directly from server. Otherwise properties are null.
-					m_lastModified = getLastModified();
+					final CloudMetadataCache cache = getConnectionContext().getMetadataCache();
+					m_lastModified = recordCacheLookup(cache, cache.getLastModified(getContainerName(), getBlobName()));
+					if (m_lastModified == null) {
+						// Blob reference must be recieved directly from server. Otherwise properties are null.
+						m_lastModified = invoke(CloudOperation.LAST_MODIFIED, this::getLastModified);
+						cache.putLastModified(getContainerName(), getBlobName(), m_lastModified);
+					}
 				}
 			} else {
 				m_lastModified = 0l;
@@ -368,64 +575,453 @@ public long lastModified() throws Exception {
 		return m_lastModified;
 	}
 
+	/**
+	 * Computes this directory's size and last modification time from a single recursive listing
+	 * @throws Exception
+	 */
+	private void aggregateDirectoryMetadata() throws Exception {
+		final CloudConnectionContext context = getConnectionContext();
+		if (!supportsRecursiveListing() && context.getParallelism() > 1) {
+			final long[] aggregate;
+			try {
+				aggregate = aggregateAsync(this, context.getExecutor()).join();
+			} catch (final CompletionException e) {
+				throw unwrap(e);
+			}
+			m_size = aggregate[0];
+			m_lastModified = aggregate[1];
+			return;
+		}
+
+		long size = 0;
+		long lastModified = 0;
+		final CloudRemoteIterator<CloudBlobMetadata> blobs = listBlobMetadataRecursive();
+		while (blobs.hasNext()) {
+			final CloudBlobMetadata blob = blobs.next();
+			size += blob.getSize();
+			lastModified = Math.max(lastModified, blob.getLastModified());
+		}
+		m_size = size;
+		m_lastModified = lastModified;
+	}
+
+	/**
+	 * Lists the metadata of all blobs/files below this directory, including those in sub directories. The flat
+	 * listing of {@link #listBlobMetadataRecursivePage(String)} is used if it is supported, otherwise the directory
+	 * tree is walked via {@link #listFilesIterator()}. Pages are fetched lazily, each as one remote call.
+	 * @return An iterator over the metadata of all blobs/files below this directory
+	 * @throws Exception
+	 */
+	private CloudRemoteIterator<CloudBlobMetadata> listBlobMetadataRecursive() throws Exception {
+		if (!supportsRecursiveListing() || getCloudPath().isRoot()) {
+			return new RecursiveMetadataIterator<>(listFilesIterator());
+		}
+		return new CloudPagedIterator<CloudBlobMetadata>() {
+
+			@Override
+			protected CloudListingPage<CloudBlobMetadata> fetchPage(final String pageToken) throws Exception {
+				return invoke(CloudOperation.LIST_RECURSIVE, () -> listBlobMetadataRecursivePage(pageToken));
+			}
+
+			@Override
+			protected void pageFetched(final CloudListingPage<CloudBlobMetadata> page) throws Exception {
+				final CloudIOStatistics statistics = CloudIOStatistics.get(getConnectionMonitor());
+				if (statistics != null) {
+					statistics.recordListing(page.getItems().size(),
+							page.getItems().stream().mapToLong(CloudBlobMetadata::getSize).sum());
+				}
+			}
+		};
+	}
+
+	/**
+	 * Returns the exception that caused a failure of an asynchronous computation
+	 * @param e the exception thrown by the asynchronous computation
+	 * @return the original exception
+	 */
+	static Exception unwrap(final Exception e) {
+		Throwable cause = e;
+		while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+				&& cause.getCause() != null) {
+			cause = cause.getCause();
+		}
+		if (cause instanceof Error) {
+			throw (Error)cause;
+		}
+		return (Exception)cause;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public boolean delete() throws Exception {
-		boolean result = exists();
 		final String path = getFullPath();
-		if (!StringUtils.isBlank(path)) {
+		if (StringUtils.isBlank(path)) {
+			return exists();
+		}
+		boolean result;
+		final String containerName = getContainerName();
+		final String blobName = getBlobName();
+		try {
+			if (isDirectory()) {
+				if (isContainer()) {
+					LOGGER.debug("Delete the container \"" + containerName + "\"");
+					result = invoke(CloudOperation.DELETE_CONTAINER, this::deleteContainer);
+					updateContainerRegistry(containerName, result, false);
+				} else if (supportsBatchDelete()) {
+					LOGGER.debug("Delete the directory \"" + blobName + "\" in container \"" + containerName
+						+ "\" in batches");
+					result = deleteRecursively().isSuccessful();
+				} else {
+					result = invoke(CloudOperation.DELETE_DIRECTORY, this::deleteDirectory);
+					LOGGER.debug("Delete the directory \"" + blobName + "\" in container \"" + containerName + "\"");
+				}
+			} else {
+				LOGGER.debug("Delete the file \"" + blobName + "\" in container\"" + containerName + "\"");
+				result = invoke(CloudOperation.DELETE_BLOB, this::deleteBlob);
+			}
+			invalidateMetadataCache();
+			resetCache();
+			switch (getConnectionContext().getDeleteVerification()) {
+				case STRONG:
+					result = result && !exists();
+					break;
+				case TRUST_PROVIDER:
+					if (result) {
+						m_exists = false;
+						m_size = 0l;
+						m_lastModified = 0l;
+					}
+					break;
+				default:
+					break;
+			}
+		} catch (final Exception ex) {
+			result = false;
+			LOGGER.debug(ex.getMessage());
+		}
+		return result;
+	}
+
+	/**
+	 * Deletes everything below this directory in batches of {@link #getDeleteBatchSize()} blobs/files, which are
+	 * issued concurrently according to the connection's parallelism, and finally the directory itself. Containers
+	 * are emptied but not deleted. Note that the parallelism defaults to
+	 * {@link CloudConnectionContext#DEFAULT_PARALLELISM}, which is 1 unless configured otherwise, so the batches are
+	 * deleted one after the other unless it is raised via {@link CloudConnectionContext#setParallelism(int)}.
+	 * @return the result of the delete, holding the blobs/files and the directory that could not be deleted
+	 * @throws Exception if the listing fails or this file is not a directory in a container
+	 */
+	public CloudDeleteResult deleteRecursively() throws Exception {
+		if (!isDirectory() || StringUtils.isBlank(getFullPath()) || getFullPath().equals(DELIMITER)) {
+			throw new IllegalStateException("Only directories and containers can be deleted recursively");
+		}
+		final CloudConnectionContext context = getConnectionContext();
+		final int parallelism = context.getParallelism();
+		final ExecutorCompletionService<Map<String, Exception>> completionService =
+				new ExecutorCompletionService<>(context.getExecutor());
+		final CloudDeleteResult result = new CloudDeleteResult();
+		final Map<Future<Map<String, Exception>>, List<String>> pending = new HashMap<>();
+		try {
 			final String containerName = getContainerName();
-			final String blobName = getBlobName();
+			final int batchSize = getDeleteBatchSize();
+			final CloudRemoteIterator<CloudBlobMetadata> blobs = listBlobMetadataRecursive();
+			List<String> batch = new ArrayList<>(batchSize);
+			while (blobs.hasNext()) {
+				batch.add(blobs.next().getBlobName());
+				if (batch.size() == batchSize || !blobs.hasNext()) {
+					if (pending.size() >= parallelism) {
+						completeDeleteBatch(completionService.take(), pending, result);
+					}
+					final List<String> blobNames = batch;
+					pending.put(completionService.submit(
+							() -> invoke(CloudOperation.DELETE_BLOBS, () -> deleteBlobs(containerName, blobNames))),
+							blobNames);
+					batch = new ArrayList<>(batchSize);
+				}
+			}
+			while (!pending.isEmpty()) {
+				completeDeleteBatch(completionService.take(), pending, result);
+			}
+		} finally {
+			pending.keySet().forEach(f -> f.cancel(true));
+			invalidateMetadataCache();
+		}
+
+		if (result.isSuccessful() && !isContainer()) {
 			try {
-				if (isDirectory()) {
-					if (isContainer()) {
-						LOGGER.debug("Delete the container \"" + containerName + "\"");
-						result = deleteContainer();
-					} else {
-						result = deleteDirectory();
-						LOGGER.debug("Delete the directory \"" + blobName + "\" in container \"" + containerName + "\"");
+				if (!invoke(CloudOperation.DELETE_DIRECTORY, this::deleteDirectory)) {
+					result.addFailure(getBlobName(),
+							new IOException("The directory \"" + getBlobName() + "\" could not be deleted"));
+				}
+			} catch (final Exception e) {
+				result.addFailure(getBlobName(), e);
+			}
+		}
+		return result;
+	}
+
+	private static void completeDeleteBatch(final Future<Map<String, Exception>> future,
+			final Map<Future<Map<String, Exception>>, List<String>> pending, final CloudDeleteResult result)
+			throws InterruptedException {
+		final List<String> blobNames = pending.remove(future);
+		try {
+			result.addBatch(blobNames.size(), future.get());
+		} catch (final ExecutionException e) {
+			final Exception cause = unwrap(e);
+			final Map<String, Exception> failures = new LinkedHashMap<>();
+			blobNames.forEach(b -> failures.put(b, cause));
+			result.addBatch(blobNames.size(), failures);
+		}
+	}
+
+	/**
+	 * Creates the file for a blob/file in the given container that shares this file's connection
+	 * @param containerName the name of the container
+	 * @param blobName the name of the blob/file within the container
+	 * @return the file
+	 * @throws Exception
+	 */
+	private CloudRemoteFile<C> createCloudRemoteFile(final String containerName, final String blobName)
+			throws Exception {
+		return createCloudRemoteFile(createContainerPath(containerName) + blobName);
+	}
+
+	/**
+	 * Creates the file with the given path that shares this file's connection
+	 * @param path the absolute path of the file
+	 * @return the file
+	 * @throws Exception
+	 */
+	@SuppressWarnings("unchecked")
+	private CloudRemoteFile<C> createCloudRemoteFile(final String path) throws Exception {
+		final URI uri = new URI(getURI().getScheme(), getURI().getUserInfo(), getURI().getHost(), getURI().getPort(),
+				path, null, null);
+		final CloudRemoteFile<C> file = newInstance(uri);
+		if (file != null) {
+			return file;
+		}
+		return (CloudRemoteFile<C>)RemoteFileFactory.createRemoteFile(uri, getConnectionInformation(),
+				getConnectionMonitor());
+	}
+
+	/**
+	 * Checks asynchronously whether this file exists, see {@link #exists()}
+	 * @return a future completed with whether this file exists, or with the exception of the check
+	 */
+	public CompletableFuture<Boolean> existsAsync() {
+		return supplyAsync(this::exists);
+	}
+
+	/**
+	 * Retrieves asynchronously the size of this file, see {@link #getSize()}
+	 * @return a future completed with the size of this file, or with the exception of the retrieval
+	 */
+	public CompletableFuture<Long> getSizeAsync() {
+		return supplyAsync(this::getSize);
+	}
+
+	/**
+	 * Retrieves asynchronously the last modification time of this file, see {@link #lastModified()}
+	 * @return a future completed with the last modification time of this file, or with the exception of the retrieval
+	 */
+	public CompletableFuture<Long> lastModifiedAsync() {
+		return supplyAsync(this::lastModified);
+	}
+
+	/**
+	 * Lists asynchronously the content of this directory, see {@link #listFiles()}
+	 * @return a future completed with the content of this directory, or with the exception of the listing
+	 */
+	public CompletableFuture<CloudRemoteFile<C>[]> listFilesAsync() {
+		return supplyAsync(this::listFiles);
+	}
+
+	/**
+	 * Executes the given accessor of this file on the connection's executor for asynchronous calls. Accessors of
+	 * the same file are serialized, so that they consistently fill the cached metadata of this file, while
+	 * accessors of different files overlap.
+	 * @param accessor the accessor
+	 * @return a future completed with the result of the accessor
+	 */
+	private <T> CompletableFuture<T> supplyAsync(final Callable<T> accessor) {
+		final CompletableFuture<T> future = new CompletableFuture<>();
+		try {
+			getConnectionContext().getAsyncExecutor().execute(() -> {
+				try {
+					final T result;
+					m_asyncLock.lock();
+					try {
+						result = accessor.call();
+					} finally {
+						m_asyncLock.unlock();
 					}
-				} else {
-					LOGGER.debug("Delete the file \"" + blobName + "\" in container\"" + containerName + "\"");
-					result = deleteBlob();
+					future.complete(result);
+				} catch (final Exception e) {
+					future.completeExceptionally(e);
 				}
-				resetCache();
-				result = result && !exists();
-			} catch (final Exception ex) {
-				result = false;
-				LOGGER.debug(ex.getMessage());
+			});
+		} catch (final Exception e) {
+			future.completeExceptionally(e);
+		}
+		return future;
+	}
+
+	/**
+	 * Checks the existence of many files of this file's connection at once. Files sharing a container and parent
+	 * directory are resolved by listing that directory once, if at least {@link #getBatchExistsListingThreshold()}
+	 * of them are requested. The listing stops after {@link #getBatchExistsListingEntriesPerFile()} entries per
+	 * requested file, and the files it did not find up to then are checked individually. All other files are
+	 * checked individually, concurrently according to the connection's parallelism.
+	 * @param paths the absolute paths of the files to check
+	 * @return the paths mapped to whether the file exists, in the order of the given paths
+	 * @throws Exception if a remote call fails
+	 */
+	public Map<String, Boolean> existsAll(final Collection<String> paths) throws Exception {
+		final Map<String, CloudRemoteFile<C>> files = new LinkedHashMap<>();
+		final Map<String, List<CloudRemoteFile<C>>> groups = new LinkedHashMap<>();
+		final List<Callable<Void>> tasks = new ArrayList<>();
+		for (final String path : paths) {
+			final CloudRemoteFile<C> file = createCloudRemoteFile(path);
+			files.put(path, file);
+			final String fullPath = file.getFullPath();
+			if (StringUtils.isBlank(fullPath) || fullPath.equals(DELIMITER) || file.isContainer()) {
+				tasks.add(() -> {
+					file.exists();
+					return null;
+				});
+			} else {
+				groups.computeIfAbsent(getParentPath(file), k -> new ArrayList<>()).add(file);
 			}
 		}
+		for (final Map.Entry<String, List<CloudRemoteFile<C>>> group : groups.entrySet()) {
+			final List<CloudRemoteFile<C>> groupFiles = group.getValue();
+			if (groupFiles.size() >= getBatchExistsListingThreshold()) {
+				tasks.add(() -> {
+					resolveExistenceByListing(group.getKey(), groupFiles);
+					return null;
+				});
+			} else {
+				for (final CloudRemoteFile<C> file : groupFiles) {
+					tasks.add(() -> {
+						file.exists();
+						return null;
+					});
+				}
+			}
+		}
+
+		for (final Future<Void> future : getConnectionContext().getExecutor().invokeAll(tasks)) {
+			try {
+				future.get();
+			} catch (final ExecutionException e) {
+				throw unwrap(e);
+			}
+		}
+		final Map<String, Boolean> result = new LinkedHashMap<>();
+		for (final Map.Entry<String, CloudRemoteFile<C>> file : files.entrySet()) {
+			result.put(file.getKey(), file.getValue().exists());
+		}
 		return result;
 	}
 
+	/**
+	 * Returns the minimum number of files sharing a parent directory for which {@link #existsAll(Collection)} lists
+	 * the parent directory instead of checking the files individually
+	 * @return the minimum number of files for which a listing is used
+	 */
+	protected int getBatchExistsListingThreshold() {
+		return 4;
+	}
+
+	/**
+	 * Returns the number of entries per requested file up to which {@link #existsAll(Collection)} lists a parent
+	 * directory. This should be the page size of the provider's listing, so that listing a large directory never
+	 * issues more requests than checking the requested files individually.
+	 * @return the maximum number of listed entries per requested file
+	 */
+	protected int getBatchExistsListingEntriesPerFile() {
+		return 1000;
+	}
+
+	private static String getParentPath(final CloudRemoteFile<?> file) throws InvalidSettingsException {
+		return file.getCloudPath().getParent().getPath();
+	}
+
+	/**
+	 * Resolves the existence of files in the same directory with a single listing of that directory. If the
+	 * listing exceeds its budget of {@link #getBatchExistsListingEntriesPerFile()} entries per file, the files not
+	 * found so far are checked individually.
+	 * @param parentPath the path of the directory
+	 * @param files the files in the directory
+	 * @throws Exception
+	 */
+	private void resolveExistenceByListing(final String parentPath, final List<CloudRemoteFile<C>> files)
+			throws Exception {
+		final CloudRemoteFile<C> parent = createCloudRemoteFile(parentPath);
+		final Set<String> listed = new HashSet<>();
+		boolean complete = true;
+		// directories do not necessarily exist as blobs of their own, hence only the container is checked
+		if (parent.containerExists(parent.getContainerName())) {
+			final long budget = (long)files.size() * getBatchExistsListingEntriesPerFile();
+			final CloudRemoteIterator<CloudRemoteFile<C>> children = parent.listFilesIterator();
+			while (listed.size() < budget && children.hasNext()) {
+				listed.add(children.next().getBlobName());
+			}
+			complete = listed.size() < budget;
+		}
+		final CloudMetadataCache cache = getConnectionContext().getMetadataCache();
+		for (final CloudRemoteFile<C> file : files) {
+			final String blobName = file.getBlobName();
+			if (listed.contains(blobName) || (!blobName.endsWith(DELIMITER)
+					&& listed.contains(blobName + DELIMITER))) {
+				file.m_exists = true;
+				cache.putExists(file.getContainerName(), blobName, true);
+			} else if (complete) {
+				file.m_exists = false;
+				cache.putExists(file.getContainerName(), blobName, false);
+			} else {
+				file.exists();
+			}
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public boolean mkDir() throws Exception {
 		boolean result = false;
+		boolean exists = false;
+		String dirName = null;
 
 		try {
-			final String path = getFullPath();
+			final CloudPath path = getCloudPath();
 			final String containerName = getContainerName();
 
 			if (isContainer()) {
-					result = createContainer();
+					result = invoke(CloudOperation.CREATE_CONTAINER, this::createContainer);
+					updateContainerRegistry(containerName, result, true);
 			} else {
-				String dirName = getBlobName();
-				dirName = dirName.endsWith(DELIMITER) ? dirName : dirName + DELIMITER;
-				if (!doestBlobExist(containerName, dirName)) {
+				final String blobName = getBlobName();
+				dirName = blobName.endsWith(DELIMITER) ? blobName : blobName + DELIMITER;
+				final String name = dirName;
+				exists = getConnectionContext().getDirectoryRegistry().exists(containerName, dirName)
+						|| invoke(CloudOperation.BLOB_EXISTS, () -> doestBlobExist(containerName, name));
+				if (!exists) {
 					LOGGER.info("Create a new directory \"" + dirName + "\" in the container \"" + containerName + "\"");
-					result = createDirectory(dirName);
+					result = invoke(CloudOperation.CREATE_DIRECTORY, () -> createDirectory(name));
 				}
 			}
 
+			invalidateMetadataCache();
+			if (dirName != null && (exists || result)) {
+				getConnectionContext().getDirectoryRegistry().setExists(containerName, dirName);
+			}
 			resetCache();
 			m_isDir = true;
-			m_fullPath = path.endsWith(DELIMITER) ? path : path + DELIMITER;
+			setCloudPath(path.toDirectory());
 
 		} catch (final Exception e) {
 			LOGGER.debug(e.getMessage());
@@ -436,27 +1032,135 @@ public boolean mkDir() throws Exception {
 	}
 
 
+	/**
+	 * Creates this directory including all missing parent directories and, if necessary, its container. Directories
+	 * that were created or found to exist are remembered by the connection's {@link CloudDirectoryRegistry}, so
+	 * repeated calls for the same or nested directories issue no remote calls for the known levels. Once a level
+	 * had to be created, the levels below it are created without checking their existence.
+	 * @return <code>true</code> if the container or at least one directory was created
+	 * @throws Exception if the container or a directory can not be created
+	 */
+	public boolean mkDirs() throws Exception {
+		final CloudPath path = getCloudPath();
+		if (path.isRoot()) {
+			return false;
+		}
+		final String containerName = path.getContainerName();
+		boolean created = false;
+		if (!containerExists(containerName)) {
+			LOGGER.info("Create a new container \"" + containerName + "\"");
+			created = invoke(CloudOperation.CREATE_CONTAINER, this::createContainer);
+			updateContainerRegistry(containerName, created, true);
+			if (!created) {
+				throw new IOException("The container \"" + containerName + "\" could not be created");
+			}
+		}
+
+		if (!path.isContainer()) {
+			final List<String> levels = new ArrayList<>();
+			final String blobName = path.toDirectory().getBlobName();
+			// a leading delimiter does not end a level of its own
+			for (int i = blobName.indexOf(DELIMITER, 1); i >= 0; i = blobName.indexOf(DELIMITER, i + 1)) {
+				levels.add(blobName.substring(0, i + 1));
+			}
+			// start below the deepest level known to exist
+			final CloudDirectoryRegistry directories = getConnectionContext().getDirectoryRegistry();
+			int first = levels.size();
+			while (first > 0 && !directories.exists(containerName, levels.get(first - 1))) {
+				first--;
+			}
+			boolean missing = created;
+			for (final String dirName : levels.subList(first, levels.size())) {
+				if (missing || !invoke(CloudOperation.BLOB_EXISTS, () -> doestBlobExist(containerName, dirName))) {
+					LOGGER.info("Create a new directory \"" + dirName + "\" in the container \"" + containerName
+							+ "\"");
+					if (!invoke(CloudOperation.CREATE_DIRECTORY, () -> createDirectory(dirName))) {
+						throw new IOException("The directory \"" + dirName + "\" in the container \"" + containerName
+								+ "\" could not be created");
+					}
+					created = true;
+					missing = true;
+				}
+				directories.setExists(containerName, dirName);
+			}
+		}
+
+		resetCache();
+		m_isDir = true;
+		setCloudPath(path.toDirectory());
+		return created;
+	}
+
+	/**
+	 * Records the existence of a container after it was created or deleted. If the operation was not successful,
+	 * the container's existence is unknown afterwards. Since the registry only remembers existing containers, a
+	 * deleted container is forgotten, so that {@link CloudDeleteVerification#STRONG} still asks the server.
+	 * @param containerName the name of the container
+	 * @param successful whether the operation was successful
+	 * @param exists whether the container exists after a successful operation
+	 * @throws Exception
+	 */
+	private void updateContainerRegistry(final String containerName, final boolean successful,
+			final boolean exists) throws Exception {
+		final CloudContainerRegistry registry = getConnectionContext().getContainerRegistry();
+		if (successful) {
+			registry.setExists(containerName, exists);
+		} else {
+			registry.invalidate(containerName);
+		}
+	}
+
 	/**
 	 * Returns this files container name
 	 * @return this files container name
 	 * @throws Exception
 	 */
 	public String getContainerName() throws Exception{
-		if (m_containerName == null) {
-			final String path = getFullPath();
-			final int idx = path.indexOf(DELIMITER);
-			if (idx != 0) {
-				throw new InvalidSettingsException("Invalid path. Path must begin with /");
-			} {
-				final int nextDelimiterIdx = path.indexOf(DELIMITER, idx +1);
-				if (nextDelimiterIdx < 0) {
-					m_containerName = path.substring(idx+1);
-				} else {
-					m_containerName = path.substring(idx+1, nextDelimiterIdx);
-				}
-			}
+		return getCloudPath().getContainerName();
+	}
+
+	/**
+	 * Returns this file's path, which is parsed only once. If {@link #createContainerPath(String)} is overridden,
+	 * a path denotes a container if it equals the container path, and the blob name is the rest of the path after
+	 * the container path.
+	 * @return this file's parsed path
+	 * @throws InvalidSettingsException if the path does not begin with /
+	 */
+	protected CloudPath getCloudPath() throws InvalidSettingsException {
+		if (m_cloudPath == null) {
+			setCloudPath(applyContainerPath(CloudPath.parse(getFullPath())));
 		}
-		return m_containerName;
+		return m_cloudPath;
+	}
+
+	/**
+	 * Splits the given path into container and blob name according to {@link #createContainerPath(String)}
+	 * @param path the parsed path
+	 * @return the given path if it uses the default container path, otherwise the path split the overridden way
+	 */
+	private CloudPath applyContainerPath(final CloudPath path) {
+		if (path.isRoot()) {
+			return path;
+		}
+		final String containerName = path.getContainerName();
+		final String containerPath = createContainerPath(containerName);
+		final String fullPath = path.getPath();
+		if (containerPath.equals(DELIMITER + containerName + DELIMITER)
+				|| !(fullPath + DELIMITER).startsWith(containerPath)) {
+			return path;
+		}
+		if (containerPath.equals(fullPath.endsWith(DELIMITER) ? fullPath : fullPath + DELIMITER)) {
+			return CloudPath.of(fullPath, containerName, null);
+		}
+		return CloudPath.of(fullPath, containerName, fullPath.substring(containerPath.length()));
+	}
+
+	private void setCloudPath(final CloudPath path) {
+		m_cloudPath = path;
+		m_fullPath = path.isRoot() ? getFullPath() : path.getPath();
+		m_containerName = path.getContainerName();
+		m_blobName = path.getBlobName();
+		m_isContainer = path.isContainer();
 	}
 
 	/**
@@ -477,18 +1181,7 @@ protected String getFullPath() {
 	 * @throws Exception
 	 */
 	protected boolean isContainer() throws Exception {
-		if (m_isContainer == null) {
-			final String containerName = getContainerName();
-			final String containerPath = createContainerPath(containerName);
-			final String path = getFullPath().endsWith(DELIMITER) ? getFullPath() : getFullPath() + DELIMITER;
-			if (containerPath.equals(path)) {
-				m_isContainer = true;
-			} else {
-				m_isContainer = false;
-			}
-
-		}
-		return m_isContainer;
+		return getCloudPath().isContainer();
 	}
 
 
@@ -503,11 +1196,158 @@ protected C getOpenedConnection() throws Exception {
 		return getConnection();
 	}
 
+	/**
+	 * Invokes a remote operation of the provider, recording its count and latency in the connection's metrics.
+	 * Failed calls are retried according to the connection's {@link CloudRetryPolicy} if they are classified as
+	 * retryable, and top level calls are subject to the connection's {@link CloudConcurrencyLimiter}, which adapts
+	 * to calls the provider throttles. If the connection information limits the requests of its identity, every
+	 * attempt waits for the {@link CloudRequestRateLimiter} and top level calls, including their retries, count
+	 * against its concurrency.
+	 * @param operation the invoked operation
+	 * @param call the call to the provider
+	 * @return the result of the call
+	 * @throws Exception if the call fails and is not retried any more
+	 */
+	protected final <T> T invoke(final CloudOperation operation, final Callable<T> call) throws Exception {
+		final CloudConnectionContext context = getConnectionContext();
+		final CloudRemoteCallMetrics metrics = context.getMetrics();
+		final CloudRetryPolicy retryPolicy = context.getRetryPolicy();
+		final CloudIOStatistics statistics = CloudIOStatistics.get(getConnectionMonitor());
+		final boolean nested = IN_INVOCATION.get();
+		// calls nested in another invocation run under the permit of the outer call, which would otherwise deadlock
+		final CloudConcurrencyLimiter limiter = nested ? null : context.getConcurrencyLimiter();
+		final CloudRequestRateLimiter requestLimiter = context.getRequestRateLimiter(getConnectionInformation());
+		final boolean limitConcurrency = requestLimiter != null && !nested;
+		if (limitConcurrency) {
+			requestLimiter.acquireConcurrency();
+		}
+		try {
+			for (int attempt = 1;; attempt++) {
+				if (requestLimiter != null) {
+					requestLimiter.acquireRate();
+				}
+				final long ticket = limiter == null ? 0 : limiter.acquire();
+				final long start = System.nanoTime();
+				boolean failed = true;
+				boolean throttled = false;
+				IN_INVOCATION.set(Boolean.TRUE);
+				try {
+					final T result = call.call();
+					failed = false;
+					retryPolicy.recordSuccess();
+					return result;
+				} catch (final Exception e) {
+					throttled = isThrottlingException(e);
+					if (attempt >= retryPolicy.getMaxAttempts() || !(throttled || isRetryableException(operation, e))
+							|| !retryPolicy.tryAcquireRetry()) {
+						throw e;
+					}
+					LOGGER.debug("Attempt " + attempt + " of " + operation + " on \"" + getFullPath() + "\" failed"
+							+ (throttled ? " due to throttling" : "") + ", retrying: " + e.getMessage());
+				} finally {
+					IN_INVOCATION.set(nested);
+					if (limiter != null) {
+						limiter.release(ticket, throttled);
+					}
+					final long nanos = System.nanoTime() - start;
+					metrics.record(operation, nanos, failed);
+					if (statistics != null) {
+						statistics.getCalls().record(operation, nanos, failed);
+					}
+				}
+				metrics.recordRetry(operation, throttled);
+				if (statistics != null) {
+					statistics.getCalls().recordRetry(operation, throttled);
+				}
+				Thread.sleep(retryPolicy.getDelay(attempt, throttled).toMillis());
+			}
+		} finally {
+			if (limitConcurrency) {
+				requestLimiter.releaseConcurrency();
+			}
+		}
+	}
+
+	/**
+	 * Returns whether the given exception signals that the provider throttled a call, e.g. a HTTP 429 or 503
+	 * response. Throttled calls are retried and reduce the number of concurrent calls of the connection.
+	 * Implementations should override this to classify the exceptions of the provider's client. The default
+	 * implementation returns <code>false</code>.
+	 * @param e the exception thrown by a call to the provider
+	 * @return <code>true</code> if the call was throttled
+	 */
+	protected boolean isThrottlingException(final Exception e) {
+		return false;
+	}
+
+	/**
+	 * Returns whether a call to the provider that failed with the given exception may be retried, e.g. because of
+	 * a transient network failure. Throttled calls are always retried. The default implementation considers refused
+	 * connections as retryable, and timed out calls only if the operation is {@link CloudOperation#isIdempotent()
+	 * idempotent}, since a create or delete that timed out might have succeeded on the remote side and would fail if
+	 * it was repeated.
+	 * @param operation the operation that failed
+	 * @param e the exception thrown by a call to the provider
+	 * @return <code>true</code> if the call may be retried
+	 */
+	protected boolean isRetryableException(final CloudOperation operation, final Exception e) {
+		return e instanceof ConnectException || (e instanceof SocketTimeoutException && operation.isIdempotent());
+	}
+
+	/**
+	 * Records a lookup in the connection's metadata cache in the statistics of this file's connection monitor,
+	 * unless the cache is disabled
+	 * @param cache the metadata cache of this file's connection
+	 * @param value the value returned by the cache, <code>null</code> in case of a miss
+	 * @return the given value
+	 */
+	private <T> T recordCacheLookup(final CloudMetadataCache cache, final T value) {
+		final CloudIOStatistics statistics = CloudIOStatistics.get(getConnectionMonitor());
+		if (statistics != null && cache.isEnabled()) {
+			statistics.recordCacheLookup(value != null);
+		}
+		return value;
+	}
+
+	/**
+	 * Returns the state shared by all files that use this file's connection
+	 * @return the context of this file's connection
+	 * @throws Exception if the connection can not be opened
+	 */
+	protected CloudConnectionContext getConnectionContext() throws Exception {
+		return CloudConnectionContext.of(getOpenedConnection());
+	}
+
+	/**
+	 * Removes this file, and if it is a directory or container everything below it, from the connection's
+	 * metadata cache. Implementations must call this once a blob written via {@link #openOutputStream()} is
+	 * complete, i.e. when the stream is closed.
+	 * @throws Exception if something is wrong with the client's configuration
+	 */
+	protected void invalidateMetadataCache() throws Exception {
+		final String path = getFullPath();
+		if (StringUtils.isBlank(path) || path.equals(DELIMITER)) {
+			getConnectionContext().getMetadataCache().clear();
+			getConnectionContext().getDirectoryRegistry().clear();
+		} else if (isContainer()) {
+			getConnectionContext().getMetadataCache().invalidateAll(getContainerName(), null);
+			getConnectionContext().getDirectoryRegistry().invalidateAll(getContainerName(), null);
+		} else if (isDirectory()) {
+			getConnectionContext().getMetadataCache().invalidateAll(getContainerName(), getBlobName());
+			getConnectionContext().getDirectoryRegistry().invalidateAll(getContainerName(), getBlobName());
+		} else {
+			getConnectionContext().getMetadataCache().invalidate(getContainerName(), getBlobName());
+			getConnectionContext().getMetadataCache().invalidate(getContainerName(), getBlobName() + DELIMITER);
+			getConnectionContext().getDirectoryRegistry().invalidateAll(getContainerName(), getBlobName() + DELIMITER);
+		}
+	}
+
 	/**
 	 * Reset this file's cached attributes
 	 * @throws Exception if something is wrong with the client's configuration
 	 */
 	protected void resetCache() throws Exception {
+		m_cloudPath = null;
 		m_containerName = null;
 		m_blobName = null;
 		m_isContainer = null;
@@ -541,4 +1381,90 @@ protected void resetCache() throws Exception {
     public String getHadoopFilesystemString() throws Exception {
         return URIUtil.toUnencodedString(getHadoopFilesystemURI());
     }
+
+	/**
+	 * Walks a directory tree depth first, delegating to {@link CloudRemoteFile#listBlobMetadataRecursive()} of each
+	 * sub directory so that flat provider listings are used wherever possible.
+	 */
+	private static final class RecursiveMetadataIterator<C extends Connection>
+			implements CloudRemoteIterator<CloudBlobMetadata> {
+
+		private final CloudRemoteIterator<CloudRemoteFile<C>> m_children;
+
+		private CloudRemoteIterator<CloudBlobMetadata> m_current = null;
+
+		private CloudBlobMetadata m_next = null;
+
+		private RecursiveMetadataIterator(final CloudRemoteIterator<CloudRemoteFile<C>> children) {
+			m_children = children;
+		}
+
+		@Override
+		public boolean hasNext() throws Exception {
+			while (m_next == null) {
+				if (m_current != null && m_current.hasNext()) {
+					m_next = m_current.next();
+				} else if (m_children.hasNext()) {
+					final CloudRemoteFile<C> child = m_children.next();
+					if (child.isDirectory()) {
+						m_current = child.listBlobMetadataRecursive();
+					} else {
+						m_next = new CloudBlobMetadata(child.getContainerName(), child.getBlobName(), child.getSize(),
+							child.lastModified());
+					}
+				} else {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public CloudBlobMetadata next() throws Exception {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			final CloudBlobMetadata next = m_next;
+			m_next = null;
+			return next;
+		}
+	}
+
+	/**
+	 * Aggregates the size and last modification time of the given directory, listing each sub directory in its own
+	 * task on the given executor. Tasks never wait for other tasks, so even an executor with a parallelism of 1
+	 * can not deadlock.
+	 * @param directory the directory
+	 * @param executor the executor of the listings
+	 * @return a future completed with an array holding the size at index 0 and the last modification time at index 1
+	 */
+	private static <C extends Connection> CompletableFuture<long[]> aggregateAsync(
+			final CloudRemoteFile<C> directory, final Executor executor) {
+		final List<CloudRemoteFile<C>> subDirectories = new ArrayList<>();
+		return CompletableFuture.supplyAsync(() -> {
+			final long[] aggregate = new long[2];
+			try {
+				final CloudRemoteIterator<CloudRemoteFile<C>> children = directory.listFilesIterator();
+				while (children.hasNext()) {
+					final CloudRemoteFile<C> child = children.next();
+					if (child.isDirectory()) {
+						subDirectories.add(child);
+					} else {
+						aggregate[0] += child.getSize();
+						aggregate[1] = Math.max(aggregate[1], child.lastModified());
+					}
+				}
+			} catch (final Exception e) {
+				throw new CompletionException(e);
+			}
+			return aggregate;
+		}, executor).thenCompose(aggregate -> {
+			CompletableFuture<long[]> result = CompletableFuture.completedFuture(aggregate);
+			for (final CloudRemoteFile<C> subDirectory : subDirectories) {
+				result = result.thenCombine(aggregateAsync(subDirectory, executor),
+						(a, b) -> new long[] {a[0] + b[0], Math.max(a[1], b[1])});
+			}
+			return result;
+		});
+	}
 }
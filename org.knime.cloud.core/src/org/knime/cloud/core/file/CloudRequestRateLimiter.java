@@ -0,0 +1,235 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH): created
+ */
+package org.knime.cloud.core.file;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.knime.base.filehandling.remote.connectioninformation.port.ConnectionInformation;
+import org.knime.cloud.core.util.port.CloudConnectionInformation;
+
+/**
+ * Limits the rate and the concurrency of the remote requests of all connections that share an
+ * {@link CloudConnectionInformation#getIdentity() identity}, e.g. of parallel workflow branches that use the same
+ * credentials. The rate is enforced by a token bucket that holds at most one second worth of requests, so short
+ * bursts are admitted while the average rate is bounded. Waiting requests block on a {@link ReentrantLock}, which
+ * does not pin the carrier of a virtual thread.
+ *
+ * @author KNIME GmbH
+ */
+public final class CloudRequestRateLimiter {
+
+    private static final Map<String, CloudRequestRateLimiter> LIMITERS = new HashMap<>();
+
+    private final ReentrantLock m_lock = new ReentrantLock();
+
+    /** Signalled when a request is released or the limits change. */
+    private final Condition m_changed = m_lock.newCondition();
+
+    private int m_requestsPerSecond;
+
+    private int m_maxConcurrency;
+
+    private double m_tokens;
+
+    private long m_lastRefillNanos = System.nanoTime();
+
+    private int m_inFlight = 0;
+
+    private CloudRequestRateLimiter(final int requestsPerSecond, final int maxConcurrency) {
+        configure(requestsPerSecond, maxConcurrency);
+        m_tokens = Math.max(1, requestsPerSecond);
+    }
+
+    /**
+     * Returns the limiter shared by all connections with the identity of the given connection information, applying
+     * its limits. Connection informations that do not limit their requests have no limiter.
+     *
+     * @param connectionInformation the connection information
+     * @return the limiter or <code>null</code> if the requests are not limited
+     */
+    public static CloudRequestRateLimiter of(final ConnectionInformation connectionInformation) {
+        if (!(connectionInformation instanceof CloudConnectionInformation)) {
+            return null;
+        }
+        final CloudConnectionInformation cloudInformation = (CloudConnectionInformation)connectionInformation;
+        final int requestsPerSecond = cloudInformation.getMaxRequestsPerSecond();
+        final int maxConcurrency = cloudInformation.getMaxConcurrentRequests();
+        if (requestsPerSecond <= 0 && maxConcurrency <= 0) {
+            return null;
+        }
+        final CloudRequestRateLimiter limiter;
+        synchronized (LIMITERS) {
+            limiter = LIMITERS.computeIfAbsent(cloudInformation.getIdentity(),
+                k -> new CloudRequestRateLimiter(requestsPerSecond, maxConcurrency));
+        }
+        limiter.configure(requestsPerSecond, maxConcurrency);
+        return limiter;
+    }
+
+    private void configure(final int requestsPerSecond, final int maxConcurrency) {
+        m_lock.lock();
+        try {
+            if (requestsPerSecond != m_requestsPerSecond || maxConcurrency != m_maxConcurrency) {
+                m_requestsPerSecond = requestsPerSecond;
+                m_maxConcurrency = maxConcurrency;
+                m_tokens = Math.min(m_tokens, Math.max(1, requestsPerSecond));
+                m_changed.signalAll();
+            }
+        } finally {
+            m_lock.unlock();
+        }
+    }
+
+    /**
+     * @return the maximum number of requests per second, 0 if not limited
+     */
+    public int getRequestsPerSecond() {
+        m_lock.lock();
+        try {
+            return m_requestsPerSecond;
+        } finally {
+            m_lock.unlock();
+        }
+    }
+
+    /**
+     * @return the maximum number of concurrent requests, 0 if not limited
+     */
+    public int getMaxConcurrency() {
+        m_lock.lock();
+        try {
+            return m_maxConcurrency;
+        } finally {
+            m_lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of requests currently in flight
+     */
+    public int getInFlight() {
+        m_lock.lock();
+        try {
+            return m_inFlight;
+        } finally {
+            m_lock.unlock();
+        }
+    }
+
+    /**
+     * Blocks until the rate admits another request.
+     *
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    void acquireRate() throws InterruptedException {
+        m_lock.lockInterruptibly();
+        try {
+            while (m_requestsPerSecond > 0) {
+                final long now = System.nanoTime();
+                m_tokens = Math.min(m_requestsPerSecond, m_tokens
+                    + (now - m_lastRefillNanos) * m_requestsPerSecond / (double)TimeUnit.SECONDS.toNanos(1));
+                m_lastRefillNanos = now;
+                if (m_tokens >= 1) {
+                    m_tokens--;
+                    return;
+                }
+                final long waitNanos =
+                    (long)Math.ceil((1 - m_tokens) * TimeUnit.SECONDS.toNanos(1) / m_requestsPerSecond);
+                m_changed.awaitNanos(Math.max(1, waitNanos));
+            }
+        } finally {
+            m_lock.unlock();
+        }
+    }
+
+    /**
+     * Blocks until the concurrency admits another request.
+     *
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    void acquireConcurrency() throws InterruptedException {
+        m_lock.lockInterruptibly();
+        try {
+            while (m_maxConcurrency > 0 && m_inFlight >= m_maxConcurrency) {
+                m_changed.await();
+            }
+            m_inFlight++;
+        } finally {
+            m_lock.unlock();
+        }
+    }
+
+    /**
+     * Releases a request admitted by {@link #acquireConcurrency()}.
+     */
+    void releaseConcurrency() {
+        m_lock.lock();
+        try {
+            m_inFlight--;
+            m_changed.signalAll();
+        } finally {
+            m_lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        m_lock.lock();
+        try {
+            return m_requestsPerSecond + " requests per second, " + m_maxConcurrency + " concurrent requests, "
+                + m_inFlight + " in flight";
+        } finally {
+            m_lock.unlock();
+        }
+    }
+}
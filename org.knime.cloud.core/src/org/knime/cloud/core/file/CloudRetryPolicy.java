@@ -0,0 +1,203 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH): created
+ */
+package org.knime.cloud.core.file;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.knime.core.node.util.CheckUtils;
+
+/**
+ * Decides how often and after which delay a failed remote call of a {@link CloudRemoteFile} is retried. Delays grow
+ * exponentially with the number of attempts and are randomized (jitter) so that concurrent callers do not retry in
+ * lockstep. All retries are paid from a retry budget that is refilled by successful calls, which prevents retry
+ * storms against a provider that is failing persistently. A policy holds the budget's state, so files only share a
+ * budget if they share the policy, which by default is the case for all files of a connection.
+ *
+ * @author KNIME GmbH
+ */
+public final class CloudRetryPolicy {
+
+    /** The default maximum number of attempts of a remote call, including the first one. */
+    public static final int DEFAULT_MAX_ATTEMPTS = Integer.getInteger("knime.cloud.retry.maxattempts", 5);
+
+    /** The default delay before the first retry in milliseconds. */
+    public static final long DEFAULT_BASE_DELAY_MILLIS = Long.getLong("knime.cloud.retry.basedelay", 100);
+
+    /** The default maximum delay between two attempts in milliseconds. */
+    public static final long DEFAULT_MAX_DELAY_MILLIS = Long.getLong("knime.cloud.retry.maxdelay", 20000);
+
+    /** The default number of retries that can be issued without intermediate successful calls. */
+    public static final int DEFAULT_BUDGET = Integer.getInteger("knime.cloud.retry.budget", 100);
+
+    /** The number of successful calls that refund one retry to the budget. */
+    private static final int SUCCESSES_PER_RETRY = 10;
+
+    private final int m_maxAttempts;
+
+    private final Duration m_baseDelay;
+
+    private final Duration m_maxDelay;
+
+    private final int m_budget;
+
+    /** The remaining budget, measured in successful calls. */
+    private int m_tokens;
+
+    /**
+     * Constructor.
+     *
+     * @param maxAttempts the maximum number of attempts of a remote call including the first one, 1 disables retries
+     * @param baseDelay the delay before the first retry
+     * @param maxDelay the maximum delay between two attempts
+     * @param budget the number of retries that can be issued without intermediate successful calls
+     */
+    public CloudRetryPolicy(final int maxAttempts, final Duration baseDelay, final Duration maxDelay,
+        final int budget) {
+        CheckUtils.checkArgument(maxAttempts >= 1, "The maximum number of attempts must be at least 1.");
+        CheckUtils.checkArgument(!baseDelay.isNegative() && baseDelay.compareTo(maxDelay) <= 0,
+            "The base delay must not be negative nor exceed the maximum delay.");
+        CheckUtils.checkArgument(budget >= 0, "The retry budget must not be negative.");
+        m_maxAttempts = maxAttempts;
+        m_baseDelay = baseDelay;
+        m_maxDelay = maxDelay;
+        m_budget = budget;
+        m_tokens = budget * SUCCESSES_PER_RETRY;
+    }
+
+    /**
+     * @return a new policy using the defaults, which can be configured via system properties
+     */
+    public static CloudRetryPolicy createDefault() {
+        return new CloudRetryPolicy(DEFAULT_MAX_ATTEMPTS, Duration.ofMillis(DEFAULT_BASE_DELAY_MILLIS),
+            Duration.ofMillis(DEFAULT_MAX_DELAY_MILLIS), DEFAULT_BUDGET);
+    }
+
+    /**
+     * @return the maximum number of attempts of a remote call including the first one
+     */
+    public int getMaxAttempts() {
+        return m_maxAttempts;
+    }
+
+    /**
+     * @return the delay before the first retry
+     */
+    public Duration getBaseDelay() {
+        return m_baseDelay;
+    }
+
+    /**
+     * @return the maximum delay between two attempts
+     */
+    public Duration getMaxDelay() {
+        return m_maxDelay;
+    }
+
+    /**
+     * @return the number of retries that can be issued without intermediate successful calls
+     */
+    public int getBudget() {
+        return m_budget;
+    }
+
+    /**
+     * @return the number of retries that can currently be issued
+     */
+    public synchronized int getRemainingBudget() {
+        return m_tokens / SUCCESSES_PER_RETRY;
+    }
+
+    /**
+     * Returns the delay before the next attempt. The delay is drawn uniformly from zero up to the exponentially
+     * growing backoff ("full jitter"). If the provider throttled the call, at least half of the backoff is waited
+     * so that the load actually decreases.
+     *
+     * @param attempt the number of the failed attempt, starting at 1
+     * @param throttled whether the provider throttled the failed attempt
+     * @return the delay before the next attempt
+     */
+    public Duration getDelay(final int attempt, final boolean throttled) {
+        final long maxMillis = m_maxDelay.toMillis();
+        final long backoff = Math.min(maxMillis, m_baseDelay.toMillis() << Math.min(attempt - 1, 30));
+        if (backoff <= 0) {
+            return Duration.ZERO;
+        }
+        final long origin = throttled ? backoff / 2 : 0;
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(origin, backoff + 1));
+    }
+
+    /**
+     * Withdraws one retry from the budget.
+     *
+     * @return whether the budget allowed the retry
+     */
+    synchronized boolean tryAcquireRetry() {
+        if (m_tokens < SUCCESSES_PER_RETRY) {
+            return false;
+        }
+        m_tokens -= SUCCESSES_PER_RETRY;
+        return true;
+    }
+
+    /**
+     * Refills the budget after a successful call.
+     */
+    synchronized void recordSuccess() {
+        if (m_tokens < m_budget * SUCCESSES_PER_RETRY) {
+            m_tokens++;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "max attempts " + m_maxAttempts + ", backoff " + m_baseDelay.toMillis() + " to "
+            + m_maxDelay.toMillis() + " ms, budget " + m_budget;
+    }
+}
@@ -0,0 +1,309 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH): created
+ */
+package org.knime.cloud.core.filehandling.signedurl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.knime.base.filehandling.remote.connectioninformation.port.ConnectionInformation;
+import org.knime.cloud.core.filehandling.signedurl.SignedUrlConfig.ExpirationMode;
+import org.knime.core.node.util.CheckUtils;
+
+/**
+ * Bounded, process wide cache of signed URLs, keyed by the connection information, the signed path and the
+ * expiration policy, i.e. a validity duration or a fixed expiration time.
+ * <p>
+ * A URL signed for a validity duration is reused as long as its remaining validity is at least the requested
+ * duration minus a tolerance, by default 10% of the duration. A URL signed for a fixed expiration time is reused
+ * until shortly before it expires. Entries are evicted before they expire and, once the cache is full, in least
+ * recently used order. This removes the signing round-trip of providers that need a remote call for it, e.g. to
+ * obtain a user delegation key.
+ *
+ * @author KNIME GmbH
+ */
+public final class SignedUrlCache {
+
+    /** The default maximum number of cached URLs. */
+    public static final int DEFAULT_MAX_SIZE = Integer.getInteger("knime.cloud.signedurl.cachesize", 10000);
+
+    /** The default share of the validity duration a reused URL may have used up. */
+    public static final double DEFAULT_REUSE_TOLERANCE =
+        Double.parseDouble(System.getProperty("knime.cloud.signedurl.reusetolerance", "0.1"));
+
+    /** The minimum remaining validity of any URL handed out by the cache. */
+    private static final Duration MIN_VALIDITY = Duration.ofSeconds(30);
+
+    private static final SignedUrlCache INSTANCE = new SignedUrlCache(DEFAULT_MAX_SIZE, DEFAULT_REUSE_TOLERANCE);
+
+    private final int m_maxSize;
+
+    private final double m_reuseTolerance;
+
+    private final Map<Key, Entry> m_entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long m_hits = 0;
+
+    private long m_misses = 0;
+
+    /**
+     * Signs a URL.
+     */
+    @FunctionalInterface
+    public interface Signer {
+
+        /**
+         * Signs the URL.
+         *
+         * @param expiration the time the URL should expire
+         * @return the signed URL
+         * @throws Exception if the URL can not be signed
+         */
+        String sign(Instant expiration) throws Exception;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maxSize the maximum number of cached URLs, 0 disables caching
+     * @param reuseTolerance the share of the validity duration between 0 and 1 a reused URL may have used up
+     */
+    public SignedUrlCache(final int maxSize, final double reuseTolerance) {
+        CheckUtils.checkArgument(maxSize >= 0, "The cache size must not be negative.");
+        CheckUtils.checkArgument(reuseTolerance >= 0 && reuseTolerance <= 1,
+            "The reuse tolerance must be between 0 and 1.");
+        m_maxSize = maxSize;
+        m_reuseTolerance = reuseTolerance;
+    }
+
+    /**
+     * @return the process wide cache
+     */
+    public static SignedUrlCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns a URL for the given path that is valid for about the given duration, signing it if no cached URL has
+     * enough remaining validity.
+     *
+     * @param connectionInformation the connection information the URL is signed with
+     * @param path the signed path
+     * @param validity the duration the URL should be valid for
+     * @param signer signs the URL if it is not cached
+     * @return the signed URL
+     * @throws Exception if the URL can not be signed
+     */
+    public String get(final ConnectionInformation connectionInformation, final String path, final Duration validity,
+        final Signer signer) throws Exception {
+        final Instant now = Instant.now();
+        final long toleranceMillis = (long)(validity.toMillis() * m_reuseTolerance);
+        final Instant minExpiration = now.plus(validity).minusMillis(toleranceMillis);
+        return get(new Key(connectionInformation, path, validity, null), now.plus(validity),
+            max(minExpiration, now.plus(MIN_VALIDITY)), signer);
+    }
+
+    /**
+     * Returns a URL for the given path that expires at the given time, signing it if it is not cached.
+     *
+     * @param connectionInformation the connection information the URL is signed with
+     * @param path the signed path
+     * @param expiration the time the URL should expire
+     * @param signer signs the URL if it is not cached
+     * @return the signed URL
+     * @throws Exception if the URL can not be signed
+     */
+    public String get(final ConnectionInformation connectionInformation, final String path, final Instant expiration,
+        final Signer signer) throws Exception {
+        return get(new Key(connectionInformation, path, null, expiration), expiration,
+            Instant.now().plus(MIN_VALIDITY), signer);
+    }
+
+    /**
+     * Returns a URL for the given path that expires as configured, signing it if no cached URL satisfies the
+     * configuration.
+     *
+     * @param connectionInformation the connection information the URL is signed with
+     * @param path the signed path
+     * @param config the expiration configuration
+     * @param signer signs the URL if it is not cached
+     * @return the signed URL
+     * @throws Exception if the URL can not be signed
+     */
+    public String get(final ConnectionInformation connectionInformation, final String path,
+        final SignedUrlConfig config, final Signer signer) throws Exception {
+        if (config.getExpirationMode() == ExpirationMode.DURATION) {
+            return get(connectionInformation, path, config.getValidityDuration(), signer);
+        }
+        return get(connectionInformation, path, config.getExpirationDateTime().toInstant(), signer);
+    }
+
+    private String get(final Key key, final Instant expiration, final Instant minExpiration, final Signer signer)
+        throws Exception {
+        synchronized (this) {
+            final Entry entry = m_entries.get(key);
+            if (entry != null) {
+                if (!entry.m_expiration.isBefore(minExpiration)) {
+                    m_hits++;
+                    return entry.m_url;
+                }
+                m_entries.remove(key);
+            }
+            m_misses++;
+        }
+        // sign outside the lock, as this might involve a remote call
+        final String url = signer.sign(expiration);
+        if (m_maxSize > 0) {
+            synchronized (this) {
+                m_entries.put(key, new Entry(url, expiration));
+                if (m_entries.size() > m_maxSize) {
+                    evict();
+                }
+            }
+        }
+        return url;
+    }
+
+    /**
+     * Removes the URLs that are about to expire and, if the cache is still full, the least recently used ones.
+     */
+    private void evict() {
+        final Instant minExpiration = Instant.now().plus(MIN_VALIDITY);
+        m_entries.values().removeIf(e -> e.m_expiration.isBefore(minExpiration));
+        for (final Iterator<Entry> it = m_entries.values().iterator(); it.hasNext() && m_entries.size() > m_maxSize;) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static Instant max(final Instant a, final Instant b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    /**
+     * Removes all cached URLs.
+     */
+    public synchronized void clear() {
+        m_entries.clear();
+    }
+
+    /**
+     * @return the number of cached URLs
+     */
+    public synchronized int size() {
+        return m_entries.size();
+    }
+
+    /**
+     * @return the number of requests answered from the cache
+     */
+    public synchronized long getHitCount() {
+        return m_hits;
+    }
+
+    /**
+     * @return the number of requests that required signing
+     */
+    public synchronized long getMissCount() {
+        return m_misses;
+    }
+
+    private static final class Entry {
+
+        private final String m_url;
+
+        private final Instant m_expiration;
+
+        private Entry(final String url, final Instant expiration) {
+            m_url = url;
+            m_expiration = expiration;
+        }
+    }
+
+    /**
+     * Compares the requests by the equality of the connection information, which includes its secrets, so that URLs
+     * signed with rotated credentials are not handed out anymore, by the path and by the expiration policy.
+     */
+    private static final class Key {
+
+        private final ConnectionInformation m_connectionInformation;
+
+        private final String m_path;
+
+        private final Duration m_validity;
+
+        private final Instant m_expiration;
+
+        private Key(final ConnectionInformation connectionInformation, final String path, final Duration validity,
+            final Instant expiration) {
+            m_connectionInformation = connectionInformation;
+            m_path = path;
+            m_validity = validity;
+            m_expiration = expiration;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key)obj;
+            return m_connectionInformation.equals(other.m_connectionInformation) && m_path.equals(other.m_path)
+                && Objects.equals(m_validity, other.m_validity) && Objects.equals(m_expiration, other.m_expiration);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(m_connectionInformation, m_path, m_validity, m_expiration);
+        }
+    }
+}
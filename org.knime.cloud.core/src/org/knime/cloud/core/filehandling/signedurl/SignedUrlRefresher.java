@@ -0,0 +1,323 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH): created
+ */
+package org.knime.cloud.core.filehandling.signedurl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.knime.cloud.core.file.CloudIOExecutor;
+import org.knime.cloud.core.filehandling.signedurl.SignedUrlCache.Signer;
+import org.knime.cloud.core.filehandling.signedurl.SignedUrlConfig.ExpirationMode;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.util.CheckUtils;
+
+/**
+ * Keeps the signed URLs of a working set of paths fresh, so that consumers, e.g. the downstream nodes of a long
+ * running streaming workflow, always get a valid URL without waiting for it to be signed. URLs are signed
+ * asynchronously on a {@link CloudIOExecutor} as soon as their path is registered and, if the
+ * {@link SignedUrlConfig} uses {@link ExpirationMode#DURATION}, re-signed once the given share of their validity
+ * remains.
+ * URLs of {@link ExpirationMode#DATE} expire at a fixed time, so they are only pre-generated.
+ *
+ * @author KNIME GmbH
+ */
+public final class SignedUrlRefresher implements AutoCloseable {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(SignedUrlRefresher.class);
+
+    /** The default share of the validity that remains when a URL is re-signed. */
+    public static final double DEFAULT_REFRESH_RATIO = 0.25;
+
+    /** The minimum remaining validity of any URL handed out by the refresher. */
+    private static final Duration MIN_VALIDITY = Duration.ofSeconds(30);
+
+    /** The delay before a failed signing is retried the first time, which doubles with every further failure. */
+    private static final Duration MIN_RETRY_DELAY = Duration.ofSeconds(1);
+
+    /** The maximum delay before a failed signing is retried. */
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(30);
+
+    private static final AtomicInteger INSTANCE_COUNT = new AtomicInteger();
+
+    private final SignedUrlConfig m_config;
+
+    private final double m_refreshRatio;
+
+    private final ScheduledExecutorService m_scheduler;
+
+    private final CloudIOExecutor m_signingExecutor;
+
+    private final Map<String, Entry> m_entries = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor using the {@link #DEFAULT_REFRESH_RATIO}, signing one URL at a time.
+     *
+     * @param config the expiration configuration of the signed URLs
+     */
+    public SignedUrlRefresher(final SignedUrlConfig config) {
+        this(config, DEFAULT_REFRESH_RATIO, 1);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param config the expiration configuration of the signed URLs
+     * @param refreshRatio the share of the validity between 0 and 1 that remains when a URL is re-signed
+     * @param threads the number of URLs signed concurrently
+     */
+    public SignedUrlRefresher(final SignedUrlConfig config, final double refreshRatio, final int threads) {
+        m_config = CheckUtils.checkArgumentNotNull(config);
+        CheckUtils.checkArgument(refreshRatio > 0 && refreshRatio < 1, "The refresh ratio must be between 0 and 1.");
+        CheckUtils.checkArgument(threads >= 1, "At least one thread is required.");
+        m_refreshRatio = refreshRatio;
+        final int instance = INSTANCE_COUNT.incrementAndGet();
+        m_scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread thread = new Thread(r, "KNIME-Signed-URL-Refresher-" + instance);
+            thread.setDaemon(true);
+            return thread;
+        });
+        m_signingExecutor = CloudIOExecutor.create(threads, "KNIME-Signed-URL-Signer-" + instance + "-");
+    }
+
+    /**
+     * Registers a path, whose URL is signed in the background right away and kept fresh until the path is
+     * unregistered. Registering a path again replaces its signer.
+     *
+     * @param path the path
+     * @param signer signs the URL of the path
+     */
+    public void register(final String path, final Signer signer) {
+        final Entry entry = new Entry(signer);
+        final Entry previous = m_entries.put(path, entry);
+        if (previous != null) {
+            previous.cancel();
+        }
+        schedule(path, entry, Duration.ZERO);
+    }
+
+    /**
+     * Stops keeping the URL of the given path fresh.
+     *
+     * @param path the path
+     */
+    public void unregister(final String path) {
+        final Entry entry = m_entries.remove(path);
+        if (entry != null) {
+            entry.cancel();
+        }
+    }
+
+    /**
+     * Returns a valid URL for the given registered path. It only waits if the URL has not been signed yet, and signs
+     * it on the calling thread if the background signing failed and the last URL is about to expire. Waiting fails
+     * if the path is unregistered or the refresher is closed before the first URL is signed.
+     *
+     * @param path the registered path
+     * @return the signed URL
+     * @throws IllegalArgumentException if the path is not registered
+     * @throws Exception if the URL can not be signed
+     */
+    public String get(final String path) throws Exception {
+        final Entry entry = m_entries.get(path);
+        CheckUtils.checkArgument(entry != null, "The path \"%s\" is not registered.", path);
+        final SignedUrl url;
+        try {
+            url = entry.m_current.get();
+        } catch (final ExecutionException e) {
+            final Entry replacement = m_entries.get(path);
+            if (replacement != null && replacement != entry) {
+                // the path was registered again while waiting for the first URL
+                return get(path);
+            }
+            throw e.getCause() instanceof Exception ? (Exception)e.getCause() : e;
+        }
+        if (url.m_expiration.isBefore(Instant.now().plus(MIN_VALIDITY))) {
+            return sign(entry).m_url;
+        }
+        return url.m_url;
+    }
+
+    /**
+     * @return the number of registered paths
+     */
+    public int size() {
+        return m_entries.size();
+    }
+
+    private void schedule(final String path, final Entry entry, final Duration delay) {
+        synchronized (entry) {
+            if (!entry.m_cancelled) {
+                // the scheduler only triggers the signing, which might block on a remote call
+                entry.m_refresh = m_scheduler.schedule(() -> m_signingExecutor.execute(() -> refresh(path, entry)),
+                    delay.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private void refresh(final String path, final Entry entry) {
+        try {
+            final SignedUrl url = sign(entry);
+            entry.m_failures = 0;
+            if (m_config.getExpirationMode() == ExpirationMode.DURATION) {
+                final Duration validity = Duration.between(url.m_signed, url.m_expiration);
+                final long delayMillis = (long)(validity.toMillis() * (1 - m_refreshRatio));
+                schedule(path, entry, Duration.ofMillis(delayMillis));
+            }
+        } catch (final Exception e) {
+            LOGGER.debug("Could not sign the URL of \"" + path + "\": " + e.getMessage(), e);
+            if (!entry.m_current.isDone()) {
+                // no URL yet, let the consumers fail instead of waiting for the retry
+                entry.m_current.completeExceptionally(e);
+            }
+            schedule(path, entry, getRetryDelay(entry));
+        }
+    }
+
+    /**
+     * Returns the delay before the next attempt to sign the URL of an entry whose signing failed. The delay grows
+     * exponentially from {@link #MIN_RETRY_DELAY} to {@link #RETRY_DELAY} with the number of consecutive failures,
+     * but is shortened to half the remaining validity of the last URL while that one is still valid, so that it is
+     * likely replaced in time. It never falls below {@link #MIN_RETRY_DELAY}, so that a signer that keeps failing,
+     * e.g. due to revoked credentials, is not retried in a tight loop.
+     */
+    private static Duration getRetryDelay(final Entry entry) {
+        entry.m_failures++;
+        Duration delay = MIN_RETRY_DELAY.multipliedBy(1L << Math.min(entry.m_failures - 1, 30));
+        if (delay.compareTo(RETRY_DELAY) > 0) {
+            delay = RETRY_DELAY;
+        }
+        final CompletableFuture<SignedUrl> current = entry.m_current;
+        if (!current.isCompletedExceptionally()) {
+            final Duration remaining = Duration.between(Instant.now(), current.join().m_expiration);
+            if (!remaining.isNegative() && remaining.dividedBy(2).compareTo(delay) < 0) {
+                delay = remaining.dividedBy(2).compareTo(MIN_RETRY_DELAY) > 0 ? remaining.dividedBy(2)
+                    : MIN_RETRY_DELAY;
+            }
+        }
+        return delay;
+    }
+
+    private SignedUrl sign(final Entry entry) throws Exception {
+        final Instant now = Instant.now();
+        final Instant expiration = m_config.getExpirationMode() == ExpirationMode.DURATION
+            ? now.plus(m_config.getValidityDuration()) : m_config.getExpirationDateTime().toInstant();
+        final SignedUrl url = new SignedUrl(entry.m_signer.sign(expiration), now, expiration);
+        synchronized (entry) {
+            if (entry.m_current.isDone()) {
+                entry.m_current = CompletableFuture.completedFuture(url);
+            } else {
+                entry.m_current.complete(url);
+            }
+        }
+        return url;
+    }
+
+    /**
+     * Stops refreshing all URLs and shuts the scheduler down.
+     */
+    @Override
+    public void close() {
+        m_entries.values().forEach(Entry::cancel);
+        m_entries.clear();
+        m_scheduler.shutdownNow();
+        m_signingExecutor.shutdownNow();
+    }
+
+    private static final class SignedUrl {
+
+        private final String m_url;
+
+        private final Instant m_signed;
+
+        private final Instant m_expiration;
+
+        private SignedUrl(final String url, final Instant signed, final Instant expiration) {
+            m_url = url;
+            m_signed = signed;
+            m_expiration = expiration;
+        }
+    }
+
+    private static final class Entry {
+
+        private final Signer m_signer;
+
+        private volatile CompletableFuture<SignedUrl> m_current = new CompletableFuture<>();
+
+        private ScheduledFuture<?> m_refresh = null;
+
+        private boolean m_cancelled = false;
+
+        /** The number of consecutive failed refreshes, only accessed by the sequential refreshes of the entry. */
+        private int m_failures = 0;
+
+        private Entry(final Signer signer) {
+            m_signer = signer;
+        }
+
+        private synchronized void cancel() {
+            m_cancelled = true;
+            if (m_refresh != null) {
+                m_refresh.cancel(false);
+            }
+            // release the consumers waiting for the first URL, which might never be signed now
+            m_current.completeExceptionally(new IllegalStateException(
+                "The path was unregistered or the refresher was closed before its URL was signed."));
+        }
+    }
+}
@@ -0,0 +1,349 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH): created
+ */
+package org.knime.cloud.core.node.filepicker;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.lang3.StringUtils;
+import org.knime.base.filehandling.remote.connectioninformation.port.ConnectionInformation;
+import org.knime.base.filehandling.remote.connectioninformation.port.ConnectionInformationPortObject;
+import org.knime.base.filehandling.remote.connectioninformation.port.ConnectionInformationPortObjectSpec;
+import org.knime.base.filehandling.remote.files.Connection;
+import org.knime.base.filehandling.remote.files.ConnectionMonitor;
+import org.knime.cloud.core.filehandling.signedurl.SignedUrlCache;
+import org.knime.cloud.core.util.ExpirationSettings;
+import org.knime.cloud.core.util.ExpirationSettings.ExpirationMode;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.MissingCell;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.container.ColumnRearranger;
+import org.knime.core.data.container.SingleCellFactory;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
+import org.knime.core.node.defaultnodesettings.SettingsModelString;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.port.PortType;
+
+/**
+ * Node model that signs a whole column of remote paths, appending a column of signed URLs. In contrast to the
+ * {@link AbstractFilePickerNodeModel}, which signs a single file per execution, all paths are signed using one
+ * connection and in parallel, as signing is local CPU work for most providers. All URLs of an execution expire at
+ * the same time, which is determined by the {@link ExpirationSettings} like for the single file node.
+ *
+ * @author KNIME GmbH
+ */
+public abstract class AbstractBatchFilePickerNodeModel extends NodeModel {
+
+	/** The settings key for the column holding the paths to sign */
+	static final String CFG_PATH_COLUMN = "pathColumn";
+
+	/** The settings key for the name of the appended column */
+	static final String CFG_URL_COLUMN = "urlColumn";
+
+	private final ExpirationSettings m_expirationModel = AbstractFilePickerNodeModel.createExpirationSettingsModel();
+	private final SettingsModelString m_pathColumn = createPathColumnModel();
+	private final SettingsModelString m_urlColumn = createURLColumnModel();
+	private final SettingsModelBoolean m_reuseSignedURLs = createReuseSignedURLsModel();
+
+	private ConnectionInformation m_connectionInformation;
+
+	static SettingsModelString createPathColumnModel() {
+		return new SettingsModelString(CFG_PATH_COLUMN, null);
+	}
+
+	static SettingsModelString createURLColumnModel() {
+		return new SettingsModelString(CFG_URL_COLUMN, "Signed URL");
+	}
+
+	static SettingsModelBoolean createReuseSignedURLsModel() {
+		return new SettingsModelBoolean(AbstractFilePickerNodeModel.CFG_REUSE_SIGNED_URLS, false);
+	}
+
+	/**
+	 * Constructor for the node model.
+	 */
+	protected AbstractBatchFilePickerNodeModel() {
+		super(new PortType[] { ConnectionInformationPortObject.TYPE, BufferedDataTable.TYPE },
+				new PortType[] { BufferedDataTable.TYPE });
+	}
+
+	/**
+	 * This method returns a signed URL for the given file. It is invoked concurrently for different files, all
+	 * using the given connection monitor.
+	 * @param monitor the connection monitor shared by all files of an execution
+	 * @param connectionInformation the connection information
+	 * @param path the path of the file, starting with the container
+	 * @param expirationTime the point in time at which the URL expires
+	 * @return The signed URL
+	 * @throws Exception If the URL can not be created
+	 */
+	abstract protected String getSignedURL(ConnectionMonitor<? extends Connection> monitor,
+			ConnectionInformation connectionInformation, String path, Date expirationTime) throws Exception;
+
+	/**
+	 * Return the endpoint's prefix
+	 * @return the endpoint's prefix
+	 */
+	abstract protected String getEndpointPrefix();
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected PortObject[] execute(final PortObject[] inData, final ExecutionContext exec) throws Exception {
+		final BufferedDataTable table = (BufferedDataTable) inData[1];
+		// one expiration for all URLs of this execution
+		final Date expirationTime = m_expirationModel.getExpirationTime();
+		final ConnectionMonitor<? extends Connection> monitor = new ConnectionMonitor<>();
+		final AtomicInteger failures = new AtomicInteger();
+		try {
+			final ColumnRearranger rearranger =
+					createColumnRearranger(table.getDataTableSpec(), monitor, expirationTime, failures);
+			final BufferedDataTable result = exec.createColumnRearrangeTable(table, rearranger, exec);
+			if (failures.get() > 0) {
+				setWarningMessage(failures.get() + " of " + table.size()
+						+ " paths could not be signed, see the missing values for details.");
+			}
+			return new PortObject[] { result };
+		} finally {
+			monitor.closeAll();
+		}
+	}
+
+	private ColumnRearranger createColumnRearranger(final DataTableSpec spec,
+			final ConnectionMonitor<? extends Connection> monitor, final Date expirationTime,
+			final AtomicInteger failures) {
+		final int pathIndex = spec.findColumnIndex(m_pathColumn.getStringValue());
+		final DataColumnSpec urlSpec = new DataColumnSpecCreator(
+				DataTableSpec.getUniqueColumnName(spec, m_urlColumn.getStringValue()), StringCell.TYPE).createSpec();
+		final ColumnRearranger rearranger = new ColumnRearranger(spec);
+		rearranger.append(new SingleCellFactory(true, urlSpec) {
+
+			private final Object m_connectionLock = new Object();
+
+			private volatile boolean m_connected = false;
+
+			@Override
+			public DataCell getCell(final DataRow row) {
+				final DataCell cell = row.getCell(pathIndex);
+				if (cell.isMissing()) {
+					return DataType.getMissingCell();
+				}
+				final String path = ((StringValue) cell).getStringValue();
+				if (!isValidPath(path)) {
+					failures.incrementAndGet();
+					return new MissingCell("\"" + path + "\" is not a valid file path");
+				}
+				try {
+					if (!m_connected) {
+						// the first file opens the connection, which all concurrent files then reuse
+						synchronized (m_connectionLock) {
+							final String url = sign(monitor, path, expirationTime);
+							m_connected = true;
+							return new StringCell(url);
+						}
+					}
+					return new StringCell(sign(monitor, path, expirationTime));
+				} catch (final Exception e) {
+					failures.incrementAndGet();
+					getLogger().debug("Could not sign \"" + path + "\" in row " + row.getKey() + ": " + e.getMessage(),
+							e);
+					return new MissingCell(e.getMessage());
+				}
+			}
+		});
+		return rearranger;
+	}
+
+	/*
+	 * Signs the given path, reusing a cached URL if enabled. Cached URLs satisfy the expiration settings but might
+	 * expire slightly earlier than the URLs signed in this execution.
+	 */
+	private String sign(final ConnectionMonitor<? extends Connection> monitor, final String path,
+			final Date expirationTime) throws Exception {
+		if (!m_reuseSignedURLs.getBooleanValue()) {
+			return getSignedURL(monitor, m_connectionInformation, path, expirationTime);
+		}
+		final SignedUrlCache cache = SignedUrlCache.getInstance();
+		if (m_expirationModel.getExpirationMode().equals(ExpirationMode.DURATION.name())) {
+			return cache.get(m_connectionInformation, path, Duration.ofMillis(m_expirationModel.getTimeInMillis()),
+					e -> getSignedURL(monitor, m_connectionInformation, path, Date.from(e)));
+		}
+		return cache.get(m_connectionInformation, path, expirationTime.toInstant(),
+				e -> getSignedURL(monitor, m_connectionInformation, path, expirationTime));
+	}
+
+	/*
+	 * The path cannot be empty, must start with "/", cannot end with "/" and must have at least two "/" which
+	 * indicates that at least the bucket path is defined
+	 */
+	private static boolean isValidPath(final String path) {
+		return !StringUtils.isBlank(path) && path.startsWith("/") && !path.endsWith("/") && path.indexOf("/", 1) >= 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void reset() {
+		// nothing to do
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+		if (inSpecs[0] != null) {
+			final ConnectionInformationPortObjectSpec object = (ConnectionInformationPortObjectSpec) inSpecs[0];
+			m_connectionInformation = object.getConnectionInformation();
+			// Check if the port object has connection information
+			if (m_connectionInformation == null
+					|| !m_connectionInformation.getProtocol().equals(getEndpointPrefix())) {
+				throw new InvalidSettingsException("No " + getEndpointPrefix() + " connection information available");
+			}
+		} else {
+			throw new InvalidSettingsException("No " + getEndpointPrefix() + " connection information available");
+		}
+
+		final DataTableSpec tableSpec = (DataTableSpec) inSpecs[1];
+		final String pathColumn = m_pathColumn.getStringValue();
+		if (StringUtils.isBlank(pathColumn)) {
+			throw new InvalidSettingsException("Please select the column holding the file paths");
+		}
+		final DataColumnSpec pathSpec = tableSpec.getColumnSpec(pathColumn);
+		if (pathSpec == null) {
+			throw new InvalidSettingsException("The column \"" + pathColumn + "\" does not exist in the input table");
+		}
+		if (!pathSpec.getType().isCompatible(StringValue.class)) {
+			throw new InvalidSettingsException("The column \"" + pathColumn + "\" does not hold strings");
+		}
+		if (StringUtils.isBlank(m_urlColumn.getStringValue())) {
+			throw new InvalidSettingsException("The name of the signed URL column must not be empty");
+		}
+
+		if (m_expirationModel.getExpirationMode().equals(ExpirationMode.DATE.name())
+				&& m_expirationModel.getDate().before(new Date())) {
+			throw new InvalidSettingsException("Expiration time: " + m_expirationModel.getDate().toString()
+					+ " is in the past. (" + new Date().toString() + ")");
+		}
+
+		return new PortObjectSpec[] {
+				createColumnRearranger(tableSpec, null, null, new AtomicInteger()).createSpec() };
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void saveSettingsTo(final NodeSettingsWO settings) {
+		m_pathColumn.saveSettingsTo(settings);
+		m_urlColumn.saveSettingsTo(settings);
+		m_reuseSignedURLs.saveSettingsTo(settings);
+		m_expirationModel.saveSettingsTo(settings);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws InvalidSettingsException {
+		m_pathColumn.loadSettingsFrom(settings);
+		m_urlColumn.loadSettingsFrom(settings);
+		m_reuseSignedURLs.loadSettingsFrom(settings);
+		m_expirationModel.loadValidatedSettings(settings);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void validateSettings(final NodeSettingsRO settings) throws InvalidSettingsException {
+		m_pathColumn.validateSettings(settings);
+		m_urlColumn.validateSettings(settings);
+		m_reuseSignedURLs.validateSettings(settings);
+		m_expirationModel.validateSettings(settings);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void loadInternals(final File internDir, final ExecutionMonitor exec)
+			throws IOException, CanceledExecutionException {
+		// nothing to do
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void saveInternals(final File internDir, final ExecutionMonitor exec)
+			throws IOException, CanceledExecutionException {
+		// nothing to do
+	}
+}
@@ -3,6 +3,7 @@
 import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
 
+import javax.swing.JCheckBox;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 
@@ -38,6 +39,8 @@ public abstract class AbstractFilePickerNodeDialog extends NodeDialogPane {
 	private final JLabel m_infoLabel;
 	private final RemoteFileChooserPanel m_remoteFileChooser;
 	private final ExpirationComponents m_ExpirationComp;
+	private final JCheckBox m_publishIOStatistics;
+	private final JCheckBox m_reuseSignedURLs;
 
 
 	/**
@@ -71,6 +74,10 @@ protected AbstractFilePickerNodeDialog() {
 
 		m_ExpirationComp  = new ExpirationComponents(new ExpirationSettings());
 
+		m_publishIOStatistics = new JCheckBox("Publish remote I/O statistics as flow variables");
+
+		m_reuseSignedURLs = new JCheckBox("Reuse previously signed URLs that are still valid");
+
 
 		// add Time to expiration
 		addTab("Options", initLayout());
@@ -87,6 +94,10 @@ private JPanel initLayout() {
 		panel.add(m_remoteFileChooser.getPanel(), gbc);
 		gbc.gridy++;
 		panel.add(m_ExpirationComp.getDialogPanel(),gbc);
+		gbc.gridy++;
+		panel.add(m_publishIOStatistics, gbc);
+		gbc.gridy++;
+		panel.add(m_reuseSignedURLs, gbc);
 		return panel;
 	}
 
@@ -97,6 +108,9 @@ private JPanel initLayout() {
 	protected void saveSettingsTo(final NodeSettingsWO settings) throws InvalidSettingsException {
 		settings.addString(getCfgName(), m_remoteFileChooser.getSelection());
 		m_ExpirationComp.saveSettingsTo(settings);
+		settings.addBoolean(AbstractFilePickerNodeModel.CFG_PUBLISH_IO_STATISTICS,
+				m_publishIOStatistics.isSelected());
+		settings.addBoolean(AbstractFilePickerNodeModel.CFG_REUSE_SIGNED_URLS, m_reuseSignedURLs.isSelected());
 	}
 
 	/**
@@ -111,5 +125,8 @@ protected void loadSettingsFrom(final NodeSettingsRO settings, final PortObjectS
 		m_remoteFileChooser.setConnectionInformation(getConnectionInformation());
 		m_remoteFileChooser.setSelection(settings.getString(getCfgName(), ""));
 		m_ExpirationComp.loadSettingsFrom(settings, specs);
+		m_publishIOStatistics.setSelected(
+				settings.getBoolean(AbstractFilePickerNodeModel.CFG_PUBLISH_IO_STATISTICS, false));
+		m_reuseSignedURLs.setSelected(settings.getBoolean(AbstractFilePickerNodeModel.CFG_REUSE_SIGNED_URLS, false));
 	}
 }
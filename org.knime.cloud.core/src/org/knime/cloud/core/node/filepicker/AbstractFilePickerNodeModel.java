@@ -2,6 +2,7 @@
 
 import java.io.File;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Date;
 import java.util.Set;
 
@@ -11,6 +12,9 @@
 import org.knime.base.filehandling.remote.connectioninformation.port.ConnectionInformationPortObjectSpec;
 import org.knime.base.filehandling.remote.files.Connection;
 import org.knime.base.filehandling.remote.files.ConnectionMonitor;
+import org.knime.cloud.core.file.CloudIOStatistics;
+import org.knime.cloud.core.file.CloudRemoteCallMetrics;
+import org.knime.cloud.core.filehandling.signedurl.SignedUrlCache;
 import org.knime.cloud.core.util.ExpirationSettings;
 import org.knime.cloud.core.util.ExpirationSettings.ExpirationMode;
 import org.knime.core.node.CanceledExecutionException;
@@ -42,6 +46,14 @@ public abstract class AbstractFilePickerNodeModel extends NodeModel {
 
 	private ConnectionInformation m_connectionInformation;
 
+	/** The settings key for whether a summary of the remote I/O is published as flow variables */
+	static final String CFG_PUBLISH_IO_STATISTICS = "publishIOStatistics";
+	private boolean m_publishIOStatistics = false;
+
+	/** The settings key for whether still valid signed URLs are reused */
+	static final String CFG_REUSE_SIGNED_URLS = "reuseSignedURLs";
+	private boolean m_reuseSignedURLs = false;
+
 	/* Create a new SettingsModelDate and initialize it to the current time */
 	static ExpirationSettings createExpirationSettingsModel() {
 		final ExpirationSettings model = new ExpirationSettings();
@@ -68,12 +80,7 @@ protected AbstractFilePickerNodeModel(final String cfgName, final String flowVar
 	abstract protected String getSignedURL(ConnectionMonitor<? extends Connection> monitor, final ConnectionInformation connectionInformation) throws Exception;
 
 	protected Date getExpirationTime() {
-		final Date expirationTime = m_expirationModel.getDate();
-		if (m_expirationModel.getExpirationMode().equals(ExpirationMode.DURATION.name())) {
-			expirationTime.setTime(new Date().getTime() + m_expirationModel.getTimeInMillis());
-		}
-
-		return expirationTime;
+		return m_expirationModel.getExpirationTime();
 	}
 
 	/**
@@ -91,8 +98,10 @@ protected String getFileSelection() {
 	protected PortObject[] execute(final PortObject[] inData, final ExecutionContext exec) throws Exception {
 		// Create connection monitor
 		final ConnectionMonitor<? extends Connection> monitor = new ConnectionMonitor<>();
+		final CloudIOStatistics statistics = m_publishIOStatistics ? CloudIOStatistics.record(monitor) : null;
 		try {
-			final String url = getSignedURL(monitor, m_connectionInformation);
+			final String url = m_reuseSignedURLs ? getCachedSignedURL(monitor)
+					: getSignedURL(monitor, m_connectionInformation);
 
 			final Set<String> variables = getAvailableFlowVariables().keySet();
 			String name = m_flowVariableName;
@@ -109,6 +118,9 @@ protected PortObject[] execute(final PortObject[] inData, final ExecutionContext
 
 			// Push variable
 			pushFlowVariableString(name, url);
+			if (statistics != null) {
+				pushIOStatistics(name, statistics);
+			}
 
 		} finally {
 			monitor.closeAll();
@@ -117,6 +129,49 @@ protected PortObject[] execute(final PortObject[] inData, final ExecutionContext
 		return new PortObject[] { FlowVariablePortObject.INSTANCE };
 	}
 
+	/**
+	 * Returns a signed URL for the selected file from the {@link SignedUrlCache}, signing it only if no cached URL
+	 * satisfies the expiration settings
+	 * @param monitor the connection monitor
+	 * @return The signed URL
+	 * @throws Exception If the URL can not be created
+	 */
+	private String getCachedSignedURL(final ConnectionMonitor<? extends Connection> monitor) throws Exception {
+		final SignedUrlCache cache = SignedUrlCache.getInstance();
+		if (m_expirationModel.getExpirationMode().equals(ExpirationMode.DURATION.name())) {
+			return cache.get(m_connectionInformation, m_fileSelection,
+					Duration.ofMillis(m_expirationModel.getTimeInMillis()),
+					e -> getSignedURL(monitor, m_connectionInformation));
+		}
+		return cache.get(m_connectionInformation, m_fileSelection, m_expirationModel.getDate().toInstant(),
+				e -> getSignedURL(monitor, m_connectionInformation));
+	}
+
+	/**
+	 * Pushes a summary of the remote I/O caused by an execution as flow variables
+	 * @param prefix the prefix of the flow variable names
+	 * @param statistics the statistics of the execution's connection monitor
+	 */
+	protected void pushIOStatistics(final String prefix, final CloudIOStatistics statistics) {
+		final CloudRemoteCallMetrics calls = statistics.getCalls();
+		pushFlowVariableInt(prefix + "_io_calls", toInt(calls.getTotalCount()));
+		pushFlowVariableInt(prefix + "_io_errors", toInt(calls.getTotalErrorCount()));
+		pushFlowVariableInt(prefix + "_io_listed_entries", toInt(statistics.getListedEntries()));
+		pushFlowVariableDouble(prefix + "_io_listed_bytes", statistics.getListedBytes());
+		pushFlowVariableDouble(prefix + "_io_latency_p50_ms", calls.getLatencyPercentile(50).toNanos() / 1e6);
+		pushFlowVariableDouble(prefix + "_io_latency_p95_ms", calls.getLatencyPercentile(95).toNanos() / 1e6);
+		pushFlowVariableDouble(prefix + "_io_latency_p99_ms", calls.getLatencyPercentile(99).toNanos() / 1e6);
+		if (statistics.getCacheLookupCount() > 0) {
+			// a ratio of 0 would suggest a useless cache when it is merely disabled
+			pushFlowVariableDouble(prefix + "_io_cache_hit_ratio", statistics.getCacheHitRatio());
+		}
+		getLogger().debug("Remote I/O: " + calls.getStatistics().values());
+	}
+
+	private static int toInt(final long value) {
+		return (int)Math.min(Integer.MAX_VALUE, value);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -178,6 +233,8 @@ protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws Inva
 	protected void saveSettingsTo(final NodeSettingsWO settings) {
 		settings.addString(m_cfgName, m_fileSelection);
 		m_expirationModel.saveSettingsTo(settings);
+		settings.addBoolean(CFG_PUBLISH_IO_STATISTICS, m_publishIOStatistics);
+		settings.addBoolean(CFG_REUSE_SIGNED_URLS, m_reuseSignedURLs);
 	}
 
 	/**
@@ -187,6 +244,9 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
 	protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws InvalidSettingsException {
 		m_fileSelection = settings.getString(m_cfgName);
 		m_expirationModel.loadValidatedSettings(settings);
+		// added later, hence optional
+		m_publishIOStatistics = settings.getBoolean(CFG_PUBLISH_IO_STATISTICS, false);
+		m_reuseSignedURLs = settings.getBoolean(CFG_REUSE_SIGNED_URLS, false);
 	}
 
 	/**
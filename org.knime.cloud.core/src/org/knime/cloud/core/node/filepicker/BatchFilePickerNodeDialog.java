@@ -0,0 +1,135 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH): created
+ */
+package org.knime.cloud.core.node.filepicker;
+
+import java.awt.GridBagConstraints;
+import java.awt.GridBagLayout;
+
+import javax.swing.JPanel;
+
+import org.knime.base.filehandling.NodeUtils;
+import org.knime.cloud.core.util.ExpirationComponents;
+import org.knime.cloud.core.util.ExpirationSettings;
+import org.knime.core.data.StringValue;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeDialogPane;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.NotConfigurableException;
+import org.knime.core.node.defaultnodesettings.DialogComponentBoolean;
+import org.knime.core.node.defaultnodesettings.DialogComponentColumnNameSelection;
+import org.knime.core.node.defaultnodesettings.DialogComponentString;
+import org.knime.core.node.port.PortObjectSpec;
+
+/**
+ * Dialog of the {@link AbstractBatchFilePickerNodeModel}, selecting the column of paths to sign, the name of the
+ * appended column and the expiration of the signed URLs.
+ *
+ * @author KNIME GmbH
+ */
+public class BatchFilePickerNodeDialog extends NodeDialogPane {
+
+	private final DialogComponentColumnNameSelection m_pathColumn;
+	private final DialogComponentString m_urlColumn;
+	private final DialogComponentBoolean m_reuseSignedURLs;
+	private final ExpirationComponents m_expirationComp;
+
+	/**
+	 * Constructor.
+	 */
+	@SuppressWarnings("unchecked")
+	public BatchFilePickerNodeDialog() {
+		m_pathColumn = new DialogComponentColumnNameSelection(AbstractBatchFilePickerNodeModel.createPathColumnModel(),
+				"Path column", 1, StringValue.class);
+		m_urlColumn = new DialogComponentString(AbstractBatchFilePickerNodeModel.createURLColumnModel(),
+				"Signed URL column", true, 20);
+		m_expirationComp = new ExpirationComponents(new ExpirationSettings());
+		m_reuseSignedURLs = new DialogComponentBoolean(AbstractBatchFilePickerNodeModel.createReuseSignedURLsModel(),
+				"Reuse previously signed URLs that are still valid");
+		addTab("Options", initLayout());
+	}
+
+	private JPanel initLayout() {
+		final JPanel panel = new JPanel(new GridBagLayout());
+		final GridBagConstraints gbc = new GridBagConstraints();
+		NodeUtils.resetGBC(gbc);
+		gbc.weightx = 1;
+		panel.add(m_pathColumn.getComponentPanel(), gbc);
+		gbc.gridy++;
+		panel.add(m_urlColumn.getComponentPanel(), gbc);
+		gbc.gridy++;
+		panel.add(m_expirationComp.getDialogPanel(), gbc);
+		gbc.gridy++;
+		panel.add(m_reuseSignedURLs.getComponentPanel(), gbc);
+		return panel;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void saveSettingsTo(final NodeSettingsWO settings) throws InvalidSettingsException {
+		m_pathColumn.saveSettingsTo(settings);
+		m_urlColumn.saveSettingsTo(settings);
+		m_expirationComp.saveSettingsTo(settings);
+		m_reuseSignedURLs.saveSettingsTo(settings);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void loadSettingsFrom(final NodeSettingsRO settings, final PortObjectSpec[] specs)
+			throws NotConfigurableException {
+		m_pathColumn.loadSettingsFrom(settings, specs);
+		m_urlColumn.loadSettingsFrom(settings, specs);
+		m_expirationComp.loadSettingsFrom(settings, specs);
+		m_reuseSignedURLs.loadSettingsFrom(settings, specs);
+	}
+}
@@ -0,0 +1,326 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH): created
+ */
+package org.knime.cloud.core.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.cloud.core.util.port.CloudConnectionInformation;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Process wide cache of temporary credentials, e.g. of assumed roles or session tokens, shared by all connections
+ * and threads. Assuming a role is slow and rate limited by the providers, so it should not be repeated for every
+ * connection.
+ * <p>
+ * Credentials are keyed by the {@link CloudConnectionInformation#equals(Object) equality} of the connection
+ * information, which includes the switched role and the secrets used to obtain them. Concurrent requests for the
+ * same credentials wait for a single load. Credentials that were used since they were loaded are refreshed in the
+ * background ahead of their expiry, so callers never wait for a refresh, while unused credentials are dropped
+ * instead.
+ *
+ * @author KNIME GmbH
+ */
+public final class CloudCredentialCache {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(CloudCredentialCache.class);
+
+    /** The default time in milliseconds ahead of their expiry at which credentials are refreshed. */
+    public static final long DEFAULT_REFRESH_AHEAD_MILLIS =
+        Long.getLong("knime.cloud.credentials.refreshahead", 300000);
+
+    /** The minimum remaining validity of credentials handed out by the cache. */
+    private static final Duration MIN_VALIDITY = Duration.ofSeconds(30);
+
+    /** The delay before a failed background refresh is retried. */
+    private static final Duration REFRESH_RETRY_DELAY = Duration.ofSeconds(30);
+
+    private static final CloudCredentialCache INSTANCE =
+        new CloudCredentialCache(Duration.ofMillis(DEFAULT_REFRESH_AHEAD_MILLIS));
+
+    private final Duration m_refreshAhead;
+
+    private final Map<Key, Entry> m_entries = new HashMap<>();
+
+    private ScheduledExecutorService m_refresher = null;
+
+    /**
+     * Constructor.
+     *
+     * @param refreshAhead the time ahead of their expiry at which credentials are refreshed
+     */
+    public CloudCredentialCache(final Duration refreshAhead) {
+        m_refreshAhead = refreshAhead.isNegative() ? Duration.ZERO : refreshAhead;
+    }
+
+    /**
+     * @return the process wide cache
+     */
+    public static CloudCredentialCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Loads temporary credentials.
+     *
+     * @param <T> the type of the credentials of the provider
+     */
+    @FunctionalInterface
+    public interface CredentialsLoader<T> {
+
+        /**
+         * Obtains new temporary credentials, e.g. by assuming a role.
+         *
+         * @return the credentials
+         * @throws Exception if the credentials can not be obtained
+         */
+        CloudTemporaryCredentials<T> load() throws Exception;
+    }
+
+    /**
+     * Returns the cached credentials of the given connection information, loading them if they are not cached or
+     * about to expire.
+     *
+     * @param connectionInformation the connection information
+     * @param type the type of the credentials, distinguishing the credentials of different providers
+     * @param loader the loader of the credentials
+     * @return the credentials
+     * @throws Exception if the credentials can not be loaded
+     */
+    public <T> T get(final CloudConnectionInformation connectionInformation, final Class<T> type,
+        final CredentialsLoader<T> loader) throws Exception {
+        final Key key = new Key(connectionInformation, type);
+        final Entry entry;
+        final CompletableFuture<CloudTemporaryCredentials<?>> future;
+        boolean load = false;
+        synchronized (this) {
+            Entry existing = m_entries.get(key);
+            if (existing == null || isExpired(existing.m_credentials)) {
+                if (existing != null) {
+                    cancelRefresh(existing);
+                }
+                existing = new Entry();
+                m_entries.put(key, existing);
+                load = true;
+            }
+            entry = existing;
+            entry.m_accessed = true;
+            future = entry.m_credentials;
+        }
+        if (load) {
+            try {
+                final CloudTemporaryCredentials<T> credentials = loader.load();
+                future.complete(credentials);
+                synchronized (this) {
+                    scheduleRefresh(key, entry, credentials, loader);
+                }
+            } catch (final Exception e) {
+                synchronized (this) {
+                    m_entries.remove(key, entry);
+                }
+                future.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return type.cast(future.get().getCredentials());
+        } catch (final ExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception)e.getCause() : e;
+        }
+    }
+
+    private static boolean isExpired(final CompletableFuture<CloudTemporaryCredentials<?>> credentials) {
+        return credentials.isCompletedExceptionally() || (credentials.isDone()
+            && credentials.join().expiresBefore(Instant.now().plus(MIN_VALIDITY)));
+    }
+
+    private <T> void scheduleRefresh(final Key key, final Entry entry, final CloudTemporaryCredentials<T> credentials,
+        final CredentialsLoader<T> loader) {
+        if (credentials.getExpiration() == null || m_entries.get(key) != entry) {
+            return;
+        }
+        final Duration validity = Duration.between(Instant.now(), credentials.getExpiration());
+        // short-lived credentials are refreshed after half their validity at the latest
+        final Duration refreshAhead =
+            m_refreshAhead.compareTo(validity.dividedBy(2)) < 0 ? m_refreshAhead : validity.dividedBy(2);
+        schedule(key, entry, loader, validity.minus(refreshAhead));
+    }
+
+    private <T> void schedule(final Key key, final Entry entry, final CredentialsLoader<T> loader,
+        final Duration delay) {
+        if (m_refresher == null) {
+            m_refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+                final Thread thread = new Thread(r, "KNIME-Cloud-Credential-Refresher");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        entry.m_refresh = m_refresher.schedule(() -> refresh(key, entry, loader),
+            Math.max(0, delay.toMillis()), TimeUnit.MILLISECONDS);
+    }
+
+    private <T> void refresh(final Key key, final Entry entry, final CredentialsLoader<T> loader) {
+        synchronized (this) {
+            if (m_entries.get(key) != entry) {
+                return;
+            }
+            if (!entry.m_accessed) {
+                // not used since the last load, so it is not worth keeping it alive
+                m_entries.remove(key);
+                return;
+            }
+            entry.m_accessed = false;
+        }
+        try {
+            final CloudTemporaryCredentials<T> credentials = loader.load();
+            synchronized (this) {
+                if (m_entries.get(key) == entry) {
+                    entry.m_credentials = CompletableFuture.completedFuture(credentials);
+                    scheduleRefresh(key, entry, credentials, loader);
+                }
+            }
+        } catch (final Exception e) {
+            LOGGER.debug("Could not refresh the credentials of \"" + key + "\": " + e.getMessage(), e);
+            synchronized (this) {
+                if (m_entries.get(key) == entry) {
+                    // keep the current credentials, which are still valid, and try again
+                    entry.m_accessed = true;
+                    schedule(key, entry, loader, REFRESH_RETRY_DELAY);
+                }
+            }
+        }
+    }
+
+    private static void cancelRefresh(final Entry entry) {
+        if (entry.m_refresh != null) {
+            entry.m_refresh.cancel(false);
+        }
+    }
+
+    /**
+     * Removes the credentials of the given connection information, e.g. because the provider rejected them.
+     *
+     * @param connectionInformation the connection information
+     * @param type the type of the credentials
+     */
+    public synchronized void invalidate(final CloudConnectionInformation connectionInformation,
+        final Class<?> type) {
+        final Entry entry = m_entries.remove(new Key(connectionInformation, type));
+        if (entry != null) {
+            cancelRefresh(entry);
+        }
+    }
+
+    /**
+     * Removes all credentials.
+     */
+    public synchronized void clear() {
+        m_entries.values().forEach(CloudCredentialCache::cancelRefresh);
+        m_entries.clear();
+    }
+
+    /**
+     * @return the number of cached credentials
+     */
+    public synchronized int size() {
+        return m_entries.size();
+    }
+
+    private static final class Entry {
+
+        private CompletableFuture<CloudTemporaryCredentials<?>> m_credentials = new CompletableFuture<>();
+
+        private boolean m_accessed = false;
+
+        private ScheduledFuture<?> m_refresh = null;
+    }
+
+    /**
+     * Identifies credentials by the equality of the connection information, which includes the secrets used to
+     * obtain them, while {@link #toString()} only exposes its identity.
+     */
+    private static final class Key {
+
+        private final Class<?> m_type;
+
+        private final CloudConnectionInformation m_connectionInformation;
+
+        private Key(final CloudConnectionInformation connectionInformation, final Class<?> type) {
+            m_type = type;
+            m_connectionInformation = connectionInformation;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key)obj;
+            return m_type.equals(other.m_type) && m_connectionInformation.equals(other.m_connectionInformation);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * m_type.hashCode() + m_connectionInformation.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return m_connectionInformation.getIdentity() + " (" + m_type.getSimpleName() + ")";
+        }
+    }
+}
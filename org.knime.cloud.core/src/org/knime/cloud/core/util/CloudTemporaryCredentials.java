@@ -0,0 +1,101 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME GmbH): created
+ */
+package org.knime.cloud.core.util;
+
+import java.time.Instant;
+
+import org.knime.core.node.util.CheckUtils;
+
+/**
+ * Temporary credentials, e.g. the session of an assumed role, together with the time they expire.
+ *
+ * @param <T> the type of the credentials of the provider
+ * @author KNIME GmbH
+ */
+public final class CloudTemporaryCredentials<T> {
+
+    private final T m_credentials;
+
+    private final Instant m_expiration;
+
+    /**
+     * Constructor.
+     *
+     * @param credentials the credentials
+     * @param expiration the time the credentials expire, <code>null</code> if they do not expire
+     */
+    public CloudTemporaryCredentials(final T credentials, final Instant expiration) {
+        m_credentials = CheckUtils.checkArgumentNotNull(credentials);
+        m_expiration = expiration;
+    }
+
+    /**
+     * @return the credentials
+     */
+    public T getCredentials() {
+        return m_credentials;
+    }
+
+    /**
+     * @return the time the credentials expire, <code>null</code> if they do not expire
+     */
+    public Instant getExpiration() {
+        return m_expiration;
+    }
+
+    /**
+     * Returns whether the credentials expire before the given time.
+     *
+     * @param time the time
+     * @return <code>true</code> if the credentials are not valid anymore at the given time
+     */
+    public boolean expiresBefore(final Instant time) {
+        return m_expiration != null && m_expiration.isBefore(time);
+    }
+}
@@ -75,6 +75,8 @@
 
 	private DialogComponentAuthentication m_auth;
 	private DialogComponentNumber m_timeout;
+	private DialogComponentNumber m_maxRequestsPerSecond;
+	private DialogComponentNumber m_maxConcurrentRequests;
 
 	private HashMap<AuthenticationType, Pair<String, String>> m_nameMap = new HashMap<>();
 
@@ -107,6 +109,28 @@ protected DialogComponentNumber getTimeoutComponent() {
 		return m_timeout;
 	}
 
+	/**
+	 * Get the {@link DialogComponentNumber} for the maximum number of requests per second
+	 *
+	 * @return The dialog component for the maximum number of requests per second
+	 */
+	protected DialogComponentNumber getMaxRequestsPerSecondComponent() {
+		m_maxRequestsPerSecond = new DialogComponentNumber(m_settings.getMaxRequestsPerSecondModel(),
+				"Max. requests per second (0 = unlimited)", 1);
+		return m_maxRequestsPerSecond;
+	}
+
+	/**
+	 * Get the {@link DialogComponentNumber} for the maximum number of concurrent requests
+	 *
+	 * @return The dialog component for the maximum number of concurrent requests
+	 */
+	protected DialogComponentNumber getMaxConcurrentRequestsComponent() {
+		m_maxConcurrentRequests = new DialogComponentNumber(m_settings.getMaxConcurrentRequestsModel(),
+				"Max. concurrent requests (0 = unlimited)", 1);
+		return m_maxConcurrentRequests;
+	}
+
 	
 	/**
 	 * Get the {@link JPanel} for the Cloud connector dialog
@@ -123,6 +147,10 @@ public JPanel getDialogPanel() {
 		panel.add(getAuthenticationPanel(), gbc);
 		gbc.gridy++;
 		panel.add(getTimeoutComponent().getComponentPanel(),gbc);
+		gbc.gridy++;
+		panel.add(getMaxRequestsPerSecondComponent().getComponentPanel(), gbc);
+		gbc.gridy++;
+		panel.add(getMaxConcurrentRequestsComponent().getComponentPanel(), gbc);
 		return panel;
 	}
 
@@ -130,11 +158,24 @@ public JPanel getDialogPanel() {
 	public void loadSettingsFrom(final NodeSettingsRO settings, final PortObjectSpec[] specs, final CredentialsProvider cp) throws NotConfigurableException {
 		m_auth.loadSettingsFrom(settings, specs, cp);
 		m_timeout.loadSettingsFrom(settings, specs);
+		// only present if the dialog panel of a subclass includes them
+		if (m_maxRequestsPerSecond != null) {
+			m_maxRequestsPerSecond.loadSettingsFrom(settings, specs);
+		}
+		if (m_maxConcurrentRequests != null) {
+			m_maxConcurrentRequests.loadSettingsFrom(settings, specs);
+		}
 	}
 
 	public void saveSettingsTo(final NodeSettingsWO settings) throws InvalidSettingsException {
 		m_auth.saveSettingsTo(settings);
 		m_timeout.saveSettingsTo(settings);
+		if (m_maxRequestsPerSecond != null) {
+			m_maxRequestsPerSecond.saveSettingsTo(settings);
+		}
+		if (m_maxConcurrentRequests != null) {
+			m_maxConcurrentRequests.saveSettingsTo(settings);
+		}
 	}
 
 	/**
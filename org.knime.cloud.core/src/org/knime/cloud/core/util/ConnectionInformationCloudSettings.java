@@ -51,6 +51,7 @@
 import org.apache.commons.lang3.StringUtils;
 import org.knime.base.filehandling.remote.connectioninformation.port.ConnectionInformation;
 import org.knime.base.filehandling.remote.files.Protocol;
+import org.knime.cloud.core.util.port.CloudConnectionInformation;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
@@ -59,6 +60,7 @@
 import org.knime.core.node.defaultnodesettings.SettingsModelAuthentication;
 import org.knime.core.node.defaultnodesettings.SettingsModelAuthentication.AuthenticationType;
 import org.knime.core.node.defaultnodesettings.SettingsModelInteger;
+import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
 import org.knime.core.node.defaultnodesettings.SettingsModelNumber;
 import org.knime.core.node.workflow.CredentialsProvider;
 
@@ -74,8 +76,18 @@ public abstract class ConnectionInformationCloudSettings {
 
     private final SettingsModelAuthentication m_authModel = createAuthenticationModel();
 
+    private static final String CFG_MAX_REQUESTS_PER_SECOND = "maxRequestsPerSecond";
+
+    private static final String CFG_MAX_CONCURRENT_REQUESTS = "maxConcurrentRequests";
+
     private final SettingsModelInteger m_timeoutModel = createTimeoutModel();
 
+    private final SettingsModelIntegerBounded m_maxRequestsPerSecondModel =
+        new SettingsModelIntegerBounded(CFG_MAX_REQUESTS_PER_SECOND, 0, 0, Integer.MAX_VALUE);
+
+    private final SettingsModelIntegerBounded m_maxConcurrentRequestsModel =
+        new SettingsModelIntegerBounded(CFG_MAX_CONCURRENT_REQUESTS, 0, 0, Integer.MAX_VALUE);
+
     private final String m_prefix;
 
     /**
@@ -104,6 +116,8 @@ private SettingsModelInteger createTimeoutModel() {
     public void saveSettingsTo(final NodeSettingsWO settings) {
         m_authModel.saveSettingsTo(settings);
         m_timeoutModel.saveSettingsTo(settings);
+        m_maxRequestsPerSecondModel.saveSettingsTo(settings);
+        m_maxConcurrentRequestsModel.saveSettingsTo(settings);
     }
 
     /**
@@ -112,6 +126,17 @@ public void saveSettingsTo(final NodeSettingsWO settings) {
     public void loadValidatedSettings(final NodeSettingsRO settings) throws InvalidSettingsException {
         m_authModel.loadSettingsFrom(settings);
         m_timeoutModel.loadSettingsFrom(settings);
+        // the requests are not limited if the settings predate the request limits
+        if (settings.containsKey(CFG_MAX_REQUESTS_PER_SECOND)) {
+            m_maxRequestsPerSecondModel.loadSettingsFrom(settings);
+        } else {
+            m_maxRequestsPerSecondModel.setIntValue(0);
+        }
+        if (settings.containsKey(CFG_MAX_CONCURRENT_REQUESTS)) {
+            m_maxConcurrentRequestsModel.loadSettingsFrom(settings);
+        } else {
+            m_maxConcurrentRequestsModel.setIntValue(0);
+        }
     }
 
     /**
@@ -120,6 +145,12 @@ public void loadValidatedSettings(final NodeSettingsRO settings) throws InvalidS
     public void validateSettings(final NodeSettingsRO settings) throws InvalidSettingsException {
         m_authModel.validateSettings(settings);
         m_timeoutModel.validateSettings(settings);
+        if (settings.containsKey(CFG_MAX_REQUESTS_PER_SECOND)) {
+            m_maxRequestsPerSecondModel.validateSettings(settings);
+        }
+        if (settings.containsKey(CFG_MAX_CONCURRENT_REQUESTS)) {
+            m_maxConcurrentRequestsModel.validateSettings(settings);
+        }
     }
 
     /**
@@ -149,6 +180,24 @@ public SettingsModelNumber getTimeoutModel() {
         return m_timeoutModel;
     }
 
+    /**
+     * Get the {@link SettingsModelNumber} for the maximum number of requests per second.
+     *
+     * @return The {@link SettingsModelNumber} for the maximum number of requests per second.
+     */
+    public SettingsModelNumber getMaxRequestsPerSecondModel() {
+        return m_maxRequestsPerSecondModel;
+    }
+
+    /**
+     * Get the {@link SettingsModelNumber} for the maximum number of concurrent requests.
+     *
+     * @return The {@link SettingsModelNumber} for the maximum number of concurrent requests.
+     */
+    public SettingsModelNumber getMaxConcurrentRequestsModel() {
+        return m_maxConcurrentRequestsModel;
+    }
+
     /**
      * Get the string value stored for the user
      * 
@@ -185,6 +234,36 @@ public Integer getTimeout() {
         return m_timeoutModel.getIntValue();
     }
 
+    /**
+     * Get the maximum number of requests per second
+     *
+     * @return The maximum number of requests per second, 0 if not limited
+     */
+    public int getMaxRequestsPerSecond() {
+        return m_maxRequestsPerSecondModel.getIntValue();
+    }
+
+    /**
+     * Get the maximum number of concurrent requests
+     *
+     * @return The maximum number of concurrent requests, 0 if not limited
+     */
+    public int getMaxConcurrentRequests() {
+        return m_maxConcurrentRequestsModel.getIntValue();
+    }
+
+    /**
+     * Applies the request limits of these settings to the given connection information. Implementations of
+     * {@link #createConnectionInformation(CredentialsProvider, Protocol)} should call this for the connection
+     * information they create.
+     *
+     * @param connectionInformation the connection information
+     */
+    protected void applyRequestLimits(final CloudConnectionInformation connectionInformation) {
+        connectionInformation.setMaxRequestsPerSecond(getMaxRequestsPerSecond());
+        connectionInformation.setMaxConcurrentRequests(getMaxConcurrentRequests());
+    }
+
     /**
      * Get the credential
      * 
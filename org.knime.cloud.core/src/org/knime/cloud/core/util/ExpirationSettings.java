@@ -143,6 +143,19 @@ public long getDateInMillis() {
 		return m_dateModel.getTimeInMillis();
 	}
 
+	/**
+	 * Get the point in time at which signed URLs expire, i.e. the chosen date or, in duration mode, the chosen
+	 * duration from now on
+	 * @return the point in time at which signed URLs expire
+	 */
+	public Date getExpirationTime() {
+		final Date expirationTime = getDate();
+		if (getExpirationMode().equals(ExpirationMode.DURATION.name())) {
+			expirationTime.setTime(new Date().getTime() + getTimeInMillis());
+		}
+		return expirationTime;
+	}
+
 	/**
 	 * Get the time until expiration in milliseconds
 	 * @return the time until expiration in milliseconds
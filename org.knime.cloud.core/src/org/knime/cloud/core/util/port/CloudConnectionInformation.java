@@ -48,6 +48,8 @@
  */
 package org.knime.cloud.core.util.port;
 
+import java.util.Objects;
+
 import org.knime.base.filehandling.remote.connectioninformation.port.ConnectionInformation;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.ModelContentRO;
@@ -95,6 +97,14 @@ public class CloudConnectionInformation extends ConnectionInformation {
 
     private static final String USE_ANONYMOUS_KEY = "useAnonymous";
 
+    private int m_maxRequestsPerSecond = 0;
+
+    private static final String MAX_REQUESTS_PER_SECOND_KEY = "maxRequestsPerSecond";
+
+    private int m_maxConcurrentRequests = 0;
+
+    private static final String MAX_CONCURRENT_REQUESTS_KEY = "maxConcurrentRequests";
+
     /**
      * Optional human readable service name (e.g. Amazon S3).
      */
@@ -141,6 +151,10 @@ protected CloudConnectionInformation(final ModelContentRO model) throws InvalidS
 
         m_useAnonymous = model.getBoolean(USE_ANONYMOUS_KEY, false);
 
+        // not limited if the settings predate the rate limit
+        m_maxRequestsPerSecond = model.getInt(MAX_REQUESTS_PER_SECOND_KEY, 0);
+        m_maxConcurrentRequests = model.getInt(MAX_CONCURRENT_REQUESTS_KEY, 0);
+
         // added in 4.1, use protocol as fallback
         m_serviceName = model.getString(CFG_SERVICE_NAME, getProtocol());
     }
@@ -244,6 +258,9 @@ public void save(final ModelContentWO model) {
 
         model.addBoolean(USE_ANONYMOUS_KEY, m_useAnonymous);
 
+        model.addInt(MAX_REQUESTS_PER_SECOND_KEY, m_maxRequestsPerSecond);
+        model.addInt(MAX_CONCURRENT_REQUESTS_KEY, m_maxConcurrentRequests);
+
         model.addString(CFG_SERVICE_NAME, m_serviceName);
     }
 
@@ -310,6 +327,99 @@ public void setUseAnonymous(final boolean useAnonymous) {
         m_useAnonymous = useAnonymous;
     }
 
+    /**
+     * Returns the maximum number of remote requests per second that all connections with the same
+     * {@link #getIdentity() identity} may issue together.
+     *
+     * @return the maximum number of requests per second, 0 if not limited
+     */
+    public int getMaxRequestsPerSecond() {
+        return m_maxRequestsPerSecond;
+    }
+
+    /**
+     * Set the maximum number of remote requests per second that all connections with the same
+     * {@link #getIdentity() identity} may issue together.
+     *
+     * @param maxRequestsPerSecond the maximum number of requests per second, 0 if not limited
+     */
+    public void setMaxRequestsPerSecond(final int maxRequestsPerSecond) {
+        m_maxRequestsPerSecond = Math.max(0, maxRequestsPerSecond);
+    }
+
+    /**
+     * Returns the maximum number of remote requests that all connections with the same
+     * {@link #getIdentity() identity} may issue concurrently.
+     *
+     * @return the maximum number of concurrent requests, 0 if not limited
+     */
+    public int getMaxConcurrentRequests() {
+        return m_maxConcurrentRequests;
+    }
+
+    /**
+     * Set the maximum number of remote requests that all connections with the same {@link #getIdentity() identity}
+     * may issue concurrently.
+     *
+     * @param maxConcurrentRequests the maximum number of concurrent requests, 0 if not limited
+     */
+    public void setMaxConcurrentRequests(final int maxConcurrentRequests) {
+        m_maxConcurrentRequests = Math.max(0, maxConcurrentRequests);
+    }
+
+    /**
+     * Returns the identity the provider accounts requests to, consisting of the protocol, host, port and user and,
+     * if a role is switched to, the role's account and name. Connections with equal identities share their request
+     * limits.
+     *
+     * @return the identity of this connection information
+     */
+    public String getIdentity() {
+        final StringBuilder identity = new StringBuilder();
+        identity.append(getProtocol()).append("://").append(getUser()).append('@').append(getHost()).append(':')
+            .append(getPort());
+        if (m_switchRole) {
+            identity.append('/').append(m_switchRoleAccount).append('/').append(m_switchRoleName);
+        }
+        return identity.toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Besides the settings compared by {@link ConnectionInformation#equals(Object)}, e.g. the user, password and key
+     * file, all cloud specific settings including the secrets are compared, so that equal connection informations
+     * may share authenticated clients, credentials and signed URLs. Subclasses adding further settings must
+     * override this and {@link #hashCode()}.
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || obj.getClass() != getClass() || !super.equals(obj)) {
+            return false;
+        }
+        final CloudConnectionInformation other = (CloudConnectionInformation)obj;
+        return m_useKeyChain == other.m_useKeyChain && m_useSSEncryption == other.m_useSSEncryption
+            && m_switchRole == other.m_switchRole && Objects.equals(m_switchRoleAccount, other.m_switchRoleAccount)
+            && Objects.equals(m_switchRoleName, other.m_switchRoleName)
+            && m_useSessionToken == other.m_useSessionToken && Objects.equals(m_sessionToken, other.m_sessionToken)
+            && m_useAnonymous == other.m_useAnonymous && m_maxRequestsPerSecond == other.m_maxRequestsPerSecond
+            && m_maxConcurrentRequests == other.m_maxConcurrentRequests
+            && Objects.equals(m_serviceName, other.m_serviceName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + Objects.hash(m_useKeyChain, m_useSSEncryption, m_switchRole,
+            m_switchRoleAccount, m_switchRoleName, m_useSessionToken, m_sessionToken, m_useAnonymous,
+            m_maxRequestsPerSecond, m_maxConcurrentRequests, m_serviceName);
+    }
+
     /**
      * Set a human readable service name.
      *